@@ -0,0 +1,52 @@
+package com.configmanager.benchmarks;
+
+import com.configmanager.dto.ConfigDTO;
+import com.configmanager.entity.Configuration;
+import com.configmanager.mapper.DTOMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard listelerindeki entity -> ConfigDTO dönüşümü
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DTOMapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private final DTOMapper dtoMapper = new DTOMapper();
+    private List<Configuration> configs;
+
+    @Setup
+    public void setUp() {
+        configs = Datasets.configurations(size);
+    }
+
+    @Benchmark
+    public List<ConfigDTO> toConfigDTOs() {
+        List<ConfigDTO> dtos = new ArrayList<>(configs.size());
+        for (Configuration config : configs) {
+            dtos.add(dtoMapper.toConfigDTO(config));
+        }
+        return dtos;
+    }
+}
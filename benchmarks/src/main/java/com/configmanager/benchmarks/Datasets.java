@@ -0,0 +1,101 @@
+package com.configmanager.benchmarks;
+
+import com.configmanager.entity.Configuration;
+import com.configmanager.entity.Project;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark'lar için deterministik veri setleri ve Spring olmadan bean kurulumu yardımcıları
+ */
+final class Datasets {
+
+    static final String ENVIRONMENT = "production";
+
+    private static final String[] SERVICES = {"payments", "billing", "search", "auth", "notifications"};
+    private static final String[] COMPONENTS = {"gateway", "db", "cache", "queue", "client"};
+
+    private Datasets() {
+    }
+
+    /**
+     * "service.component.settingN" biçiminde key'leri olan, bir kısmı açıklamalı konfigürasyonlar
+     */
+    static List<Configuration> configurations(int size) {
+        Project project = new Project();
+        project.setId(1L);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        List<Configuration> configs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Configuration config = new Configuration();
+            config.setId((long) i + 1);
+            config.setProject(project);
+            config.setEnvironment(ENVIRONMENT);
+            config.setKey(key(i));
+            config.setValue(value(i));
+            config.setDescription(i % 3 == 0 ? "Setting " + i + " for " + SERVICES[i % SERVICES.length] : null);
+            config.setIsSensitive(i % 7 == 0);
+            config.setIsEncrypted(false);
+            config.setCreatedAt(now);
+            config.setUpdatedAt(now.plusMinutes(i));
+            configs.add(config);
+        }
+        return configs;
+    }
+
+    /**
+     * Snapshot sorgusunun döndürdüğü (key, value) satırları
+     */
+    static List<Object[]> keyValueRows(int size) {
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new Object[] {key(i), value(i)});
+        }
+        return rows;
+    }
+
+    static String key(int i) {
+        return SERVICES[i % SERVICES.length] + "." + COMPONENTS[(i / SERVICES.length) % COMPONENTS.length]
+                + ".setting" + i;
+    }
+
+    static String value(int i) {
+        return i % 4 == 0 ? "https://service-" + i + ".internal.example.com:8443/api/v1" : "value-" + i;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = findField(target.getClass(), name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Alan atanamadı: " + name, e);
+        }
+    }
+
+    static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Metod çağrılamadı: " + methodName, e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // Üst sınıfta ara
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,60 @@
+package com.configmanager.benchmarks;
+
+import com.configmanager.entity.Configuration;
+import com.configmanager.repository.ConfigurationRepository;
+import com.configmanager.service.ConfigurationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigurationService.generateDotEnvFormat; repository bellekteki veri setini döndüren bir stub'dır,
+ * böylece sadece metin üretimi ölçülür
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DotEnvExportBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ConfigurationService configurationService;
+
+    @Setup
+    public void setUp() {
+        List<Configuration> configs = Datasets.configurations(size);
+        ConfigurationRepository repository = (ConfigurationRepository) Proxy.newProxyInstance(
+                ConfigurationRepository.class.getClassLoader(),
+                new Class<?>[] {ConfigurationRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEnvironmentOrderByKeyAsc")) {
+                        return configs;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        configurationService = new ConfigurationService();
+        Datasets.setField(configurationService, "configurationRepository", repository);
+    }
+
+    @Benchmark
+    public String generateDotEnvFormat() {
+        return configurationService.generateDotEnvFormat(Datasets.ENVIRONMENT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.configmanager.benchmarks;
+
+import com.configmanager.cache.invalidation.LoopbackInvalidationBus;
+import com.configmanager.entity.Role;
+import com.configmanager.entity.User;
+import com.configmanager.security.JwtTokenService;
+import com.configmanager.security.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter'ın her istekte çağırdığı JwtTokenService.resolve.
+ * size farklı token sırayla çözülür; cache boyutu token sayısından küçükse her çağrı imza doğrulaması yapar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtResolveBenchmark {
+
+    private static final String SECRET = "1234567890123456789012345678901234567890123456789012345678901234";
+
+    @Param({"1", "1000", "100000"})
+    private int size;
+
+    @Param({"10000"})
+    private int cacheSize;
+
+    private String[] tokens;
+    private JwtTokenService jwtTokenService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = new JwtTokenService();
+        Datasets.setField(jwtTokenService, "invalidationBus", new LoopbackInvalidationBus());
+        Datasets.setField(jwtTokenService, "jwtSecret", SECRET);
+        Datasets.setField(jwtTokenService, "jwtExpirationMs", TimeUnit.DAYS.toMillis(1));
+        Datasets.setField(jwtTokenService, "cacheSize", cacheSize);
+        Datasets.setField(jwtTokenService, "revocationEnabled", true);
+        Datasets.invoke(jwtTokenService, "init");
+
+        tokens = new String[size];
+        for (int i = 0; i < size; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "secret");
+            user.setId((long) i + 1);
+            user.setRoles(Set.of(Role.USER));
+            tokens[i] = jwtTokenService.generateToken(user);
+        }
+    }
+
+    @Benchmark
+    public UserPrincipal resolve() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return jwtTokenService.resolve(token);
+    }
+}
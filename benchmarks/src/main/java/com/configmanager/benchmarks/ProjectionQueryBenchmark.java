@@ -0,0 +1,117 @@
+package com.configmanager.benchmarks;
+
+import com.configmanager.ConfigManagerApplication;
+import com.configmanager.dto.ConfigDTO;
+import com.configmanager.entity.Configuration;
+import com.configmanager.entity.Project;
+import com.configmanager.entity.User;
+import com.configmanager.mapper.DTOMapper;
+import com.configmanager.repository.ConfigurationRepository;
+import com.configmanager.repository.ProjectRepository;
+import com.configmanager.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Config listelemesi: managed entity yükleyip DTO'ya çevirmek ile JPQL constructor projection'ı karşılaştırır.
+ * Uygulama bellek içi H2 ile açılır; her iki yol da servis katmanındaki gibi read-only transaction içinde çalışır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionQueryBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ConfigurationRepository configurationRepository;
+    private DTOMapper dtoMapper;
+    private TransactionTemplate readOnly;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(ConfigManagerApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + size + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--app.warmup.enabled=false",
+                "--logging.level.root=WARN");
+
+        configurationRepository = context.getBean(ConfigurationRepository.class);
+        dtoMapper = context.getBean(DTOMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class).save(new User("bench", "bench@example.com", "secret"));
+        Project newProject = new Project();
+        newProject.setName("bench");
+        newProject.setUser(user);
+        project = context.getBean(ProjectRepository.class).save(newProject);
+
+        List<Configuration> configs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Configuration config = new Configuration();
+            config.setKey(Datasets.key(i));
+            config.setValue(Datasets.value(i));
+            config.setDescription(i % 3 == 0 ? "Setting " + i : null);
+            config.setEnvironment(Datasets.ENVIRONMENT);
+            config.setProject(project);
+            config.setUser(user);
+            configs.add(config);
+        }
+        configurationRepository.saveAll(configs);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Entity yükleyip DTOMapper ile dönüştürme: entity'ler hydrate edilir, persistence context snapshot'ları tutulur
+     */
+    @Benchmark
+    public List<ConfigDTO> entityLoad() {
+        return readOnly.execute(status -> {
+            List<ConfigDTO> dtos = new ArrayList<>();
+            for (Configuration config : configurationRepository.findByProjectAndEnvironment(project,
+                    Datasets.ENVIRONMENT)) {
+                dtos.add(dtoMapper.toConfigDTO(config));
+            }
+            return dtos;
+        });
+    }
+
+    @Benchmark
+    public List<ConfigDTO> projection() {
+        return readOnly.execute(status -> configurationRepository.findConfigDTOsByProjectIdAndEnvironment(
+                project.getId(), Datasets.ENVIRONMENT));
+    }
+}
@@ -0,0 +1,77 @@
+package com.configmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.DigestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PublicApiController /configs yolu: (key, value) satırlarından map kurulumu,
+ * Jackson ile byte[]'a serialization ve ETag hesaplaması
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicFetchSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    // Spring Boot'un kullandığı varsayılanlarla aynı ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Object[]> rows;
+    private Map<String, String> snapshot;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        rows = Datasets.keyValueRows(size);
+        snapshot = buildSnapshot();
+        body = objectMapper.writeValueAsBytes(snapshot);
+    }
+
+    @Benchmark
+    public Map<String, String> buildSnapshot() {
+        Map<String, String> values = new HashMap<>();
+        for (Object[] row : rows) {
+            values.put((String) row[0], (String) row[1]);
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(snapshot);
+    }
+
+    @Benchmark
+    public String eTag() {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    @Benchmark
+    public String buildSerializeAndTag() throws JsonProcessingException {
+        byte[] bytes = objectMapper.writeValueAsBytes(buildSnapshot());
+        return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+    }
+}
@@ -0,0 +1,137 @@
+package com.configmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test edilen endpoint'ler için istek üreticileri ve seed aşamasındaki bloklayan çağrılar
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String token;
+
+    ApiClient(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Warm-up bitene kadar /health 503 döner
+     */
+    void awaitHealthy(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = httpClient.send(get("/health").build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Sunucu henüz dinlemiyor
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Sunucu " + timeout.toSeconds() + " sn içinde hazır olmadı: " + baseUrl);
+    }
+
+    void login(String username, String password) throws InterruptedException {
+        Map<String, String> body = Map.of("usernameOrEmail", username, "password", password);
+        token = send(post("/api/auth/login", body).build(), 200).get("token").asText();
+    }
+
+    JsonNode createProject(String name) throws InterruptedException {
+        Map<String, String> body = Map.of("name", name, "description", "Load test projesi");
+        return send(authorized(post("/api/projects", body)).build(), 201);
+    }
+
+    void seedBatch(long projectId, String environment, Map<String, String> configs) throws InterruptedException {
+        send(batchWrite(projectId, environment, configs), 201);
+    }
+
+    HttpRequest publicFetch(String apiKey, String environment, String prefix) {
+        String path = "/api/public/configs?environment=" + encode(environment)
+                + (prefix != null ? "&prefix=" + encode(prefix) : "");
+        return get(path).header("X-API-Key", apiKey).build();
+    }
+
+    HttpRequest projectsPage() {
+        return authorized(get("/api/projects/page?size=20&includeStats=true")).build();
+    }
+
+    HttpRequest configsPage(long projectId) {
+        return authorized(get("/api/projects/" + projectId + "/configs/page?size=50")).build();
+    }
+
+    HttpRequest batchWrite(long projectId, String environment, Map<String, String> configs) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("projectId", projectId);
+        body.put("environment", environment);
+        body.put("configs", configs);
+        return authorized(post("/api/config/batch", body)).build();
+    }
+
+    HttpRequest auditCursor() {
+        return authorized(get("/api/audit-logs/cursor?size=50")).build();
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws InterruptedException {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != expectedStatus) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " -> "
+                        + response.statusCode() + ": " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.method() + " " + request.uri() + " başarısız", e);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+        if (token == null) {
+            throw new IllegalStateException("Önce login olunmalı");
+        }
+        return builder.header("Authorization", "Bearer " + token);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+package com.configmanager.loadtest;
+
+import com.configmanager.ConfigManagerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Uygulamayı aynı JVM'de, bellek içi H2 ve rastgele port ile açar.
+ * Ayarlar komut satırı argümanı olarak verilir; application.properties'teki değerleri ezer.
+ */
+final class EmbeddedServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedServer(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static EmbeddedServer start(LoadTestOptions options) {
+        String[] args = {
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.hikari.maximum-pool-size=" + options.poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + options.poolSize,
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--app.cache.invalidation.mode=loopback",
+                "--logging.level.com.configmanager=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate=WARN",
+                "--logging.level.org.apache=WARN"
+        };
+        return new EmbeddedServer(SpringApplication.run(ConfigManagerApplication.class, args));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
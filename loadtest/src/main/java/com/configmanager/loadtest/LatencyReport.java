@@ -0,0 +1,127 @@
+package com.configmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Endpoint başına gecikme histogramı (mikrosaniye), hata ve byte sayaçları
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final class EndpointStats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    }
+
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, int status, long bytes) {
+        EndpointStats endpoint = stats.get(operation);
+        endpoint.latency.recordValue(toMicros(latencyNanos));
+        endpoint.bytes.add(bytes);
+        // 304: ETag ile koşullu public fetch başarılıdır
+        if (status >= 400) {
+            endpoint.errors.increment();
+            endpoint.failures.computeIfAbsent("HTTP " + status, k -> new LongAdder()).increment();
+        }
+    }
+
+    void recordFailure(Operation operation, long latencyNanos, Throwable error) {
+        EndpointStats endpoint = stats.get(operation);
+        endpoint.latency.recordValue(toMicros(latencyNanos));
+        endpoint.errors.increment();
+        endpoint.failures.computeIfAbsent(error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+    }
+
+    void print(PrintStream out, double elapsedSeconds) {
+        String format = "%-38s %9s %7s %9s %9s %9s %9s %9s %9s %10s%n";
+        out.printf(format, "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms", "KiB/s");
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalBytes = 0;
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            Histogram latency = endpoint.latency.copy();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(latency);
+            totalErrors += endpoint.errors.sum();
+            totalBytes += endpoint.bytes.sum();
+            printRow(out, format, entry.getKey().getEndpoint(), latency, endpoint.errors.sum(),
+                    endpoint.bytes.sum(), elapsedSeconds);
+        }
+        printRow(out, format, "TOTAL", total, totalErrors, totalBytes, elapsedSeconds);
+
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            Map<String, LongAdder> failures = new TreeMap<>(entry.getValue().failures);
+            if (!failures.isEmpty()) {
+                out.printf("%s hataları:", entry.getKey().getEndpoint());
+                failures.forEach((reason, count) -> out.printf(" %s=%d", reason, count.sum()));
+                out.println();
+            }
+        }
+    }
+
+    /**
+     * Endpoint başına HdrHistogram percentile dağılımı (ms); farklı koşular aynı grafikte karşılaştırılabilir
+     */
+    void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency.copy();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = dir.resolve(entry.getKey().getOptionName() + ".hgrm");
+            try (PrintStream out = new PrintStream(file.toFile())) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String format, String name, Histogram latency, long errors,
+            long bytes, double elapsedSeconds) {
+        out.printf(format, name,
+                latency.getTotalCount(),
+                errors,
+                String.format("%.1f", latency.getTotalCount() / elapsedSeconds),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()),
+                String.format("%.1f", bytes / 1024.0 / elapsedSeconds));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -0,0 +1,136 @@
+package com.configmanager.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * İstekleri tek bir dağıtıcı thread'den async HttpClient ile gönderir; açık istek sayısı concurrency ile sınırlıdır.
+ * Açık modelde (rate > 0) gecikme isteğin planlanan başlangıcından ölçülür, böylece sunucu yavaşladığında
+ * kuyrukta bekleme süresi de rapora girer (coordinated omission düzeltmesi).
+ */
+final class LoadDriver {
+
+    private final ApiClient apiClient;
+    private final SeedData data;
+    private final LoadTestOptions options;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong revision = new AtomicLong();
+
+    LoadDriver(ApiClient apiClient, SeedData data, LoadTestOptions options) {
+        this.apiClient = apiClient;
+        this.data = data;
+        this.options = options;
+
+        List<Map.Entry<Operation, Integer>> weighted = options.mix.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        operations = new Operation[weighted.size()];
+        cumulativeWeights = new int[weighted.size()];
+        int sum = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            operations[i] = weighted.get(i).getKey();
+            sum += weighted.get(i).getValue();
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    LatencyReport run() throws InterruptedException {
+        HttpClient httpClient = apiClient.getHttpClient();
+        LatencyReport report = new LatencyReport();
+        Semaphore inFlight = new Semaphore(options.concurrency);
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        long interval = options.rate > 0 ? TimeUnit.SECONDS.toNanos(1) / options.rate : 0;
+        long next = start;
+
+        while (System.nanoTime() < end) {
+            long intended;
+            if (interval > 0) {
+                intended = next;
+                next += interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+            } else {
+                inFlight.acquire();
+                intended = System.nanoTime();
+            }
+
+            Operation operation = pick();
+            HttpRequest request = build(operation);
+            boolean measured = intended >= measureStart;
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        if (measured) {
+                            if (error != null) {
+                                report.recordFailure(operation, latency, error);
+                            } else {
+                                report.record(operation, latency, response.statusCode(), response.body().length);
+                            }
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        // Ölçüm penceresinde başlayan isteklerin bitmesini bekle
+        if (!inFlight.tryAcquire(options.concurrency, 60, TimeUnit.SECONDS)) {
+            System.err.println("Uyarı: bazı istekler 60 sn içinde tamamlanmadı");
+        }
+        return report;
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest build(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeedData.SeededProject project = data.projects().get(random.nextInt(data.projects().size()));
+        String environment = data.environments().get(random.nextInt(data.environments().size()));
+
+        return switch (operation) {
+            case PUBLIC_FETCH -> apiClient.publicFetch(project.apiKey(), environment, null);
+            case PUBLIC_FETCH_PREFIX -> apiClient.publicFetch(project.apiKey(), environment,
+                    data.prefixes().get(random.nextInt(data.prefixes().size())));
+            case DASHBOARD_PROJECTS -> apiClient.projectsPage();
+            case DASHBOARD_CONFIGS -> apiClient.configsPage(project.id());
+            case BATCH_WRITE -> apiClient.batchWrite(project.id(), environment, batch(environment, random));
+            case AUDIT_QUERY -> apiClient.auditCursor();
+        };
+    }
+
+    /**
+     * Var olan key'lerden rastgele bir alt küme; değerler her yazmada değişir, snapshot'lar gerçekten invalid olur
+     */
+    private Map<String, String> batch(String environment, ThreadLocalRandom random) {
+        long rev = revision.incrementAndGet();
+        int size = Math.min(options.batchSize, data.keys().size());
+        Map<String, String> configs = new LinkedHashMap<>();
+        while (configs.size() < size) {
+            int index = random.nextInt(data.keys().size());
+            configs.put(data.keys().get(index), Seeder.value(environment, index, rev));
+        }
+        return configs;
+    }
+}
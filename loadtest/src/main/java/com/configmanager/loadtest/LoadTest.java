@@ -0,0 +1,71 @@
+package com.configmanager.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Uçtan uca yük testi: uygulamayı H2 ile açar (veya --target'a bağlanır), veriyi seed eder,
+ * public fetch / dashboard / batch yazma / audit karışımını sürer ve endpoint başına percentile raporlar.
+ *
+ * Örnek: --projects=20 --environments=3 --keys=200 --concurrency=64 --duration=60
+ *        --mix=public=70,public-prefix=10,configs=10,batch=5,audit=5
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        EmbeddedServer server = null;
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(options.clientThreads);
+        try {
+            String baseUrl = options.target;
+            if (baseUrl == null) {
+                log("Sunucu H2 ile başlatılıyor...");
+                server = EmbeddedServer.start(options);
+                baseUrl = server.baseUrl();
+            }
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(clientExecutor)
+                    .build();
+            ApiClient apiClient = new ApiClient(httpClient, baseUrl);
+            apiClient.awaitHealthy(Duration.ofSeconds(60));
+            apiClient.login(options.username, options.password);
+
+            log(String.format("Seed: %d proje x %d environment x %d key (%s)",
+                    options.projects, options.environments, options.keys, baseUrl));
+            long seedStart = System.nanoTime();
+            SeedData data = new Seeder(apiClient, options).seed();
+            log(String.format("Seed tamamlandı: %.1f sn", (System.nanoTime() - seedStart) / 1e9));
+
+            log(String.format("Yük: %s, concurrency=%d, warmup=%d sn, süre=%d sn, mix=%s",
+                    options.rate > 0 ? options.rate + " istek/sn" : "kapalı model",
+                    options.concurrency, options.warmupSeconds, options.durationSeconds, options.mix));
+            LatencyReport report = new LoadDriver(apiClient, data, options).run();
+
+            System.out.println();
+            report.print(System.out, options.durationSeconds);
+            if (options.hgrmDir != null) {
+                report.writeHistograms(Path.of(options.hgrmDir));
+                log("Histogramlar yazıldı: " + options.hgrmDir);
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
@@ -0,0 +1,94 @@
+package com.configmanager.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Komut satırı seçenekleri; hepsi "--isim=değer" biçimindedir
+ */
+final class LoadTestOptions {
+
+    // Sunucu; target verilmezse uygulama aynı JVM'de H2 ile açılır
+    String target;
+    String username = "testUser";
+    String password = "test123";
+    int poolSize = 10;
+
+    // Seed: projects x environments x keys
+    int projects = 10;
+    int environments = 3;
+    int keys = 100;
+
+    // Yük: rate > 0 ise açık model (sabit hız), değilse concurrency kadar istek sürekli açık tutulur
+    int concurrency = 32;
+    int rate = 0;
+    int warmupSeconds = 10;
+    int durationSeconds = 60;
+    int batchSize = 20;
+    int clientThreads = 4;
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    // Opsiyonel: endpoint başına .hgrm dosyaları (HdrHistogram plotter ile çizilebilir)
+    String hgrmDir;
+
+    private LoadTestOptions() {
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, operation.getDefaultWeight());
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Geçersiz argüman: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "target" -> options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "username" -> options.username = value;
+                case "password" -> options.password = value;
+                case "pool-size" -> options.poolSize = positive(name, value);
+                case "projects" -> options.projects = positive(name, value);
+                case "environments" -> options.environments = positive(name, value);
+                case "keys" -> options.keys = positive(name, value);
+                case "concurrency" -> options.concurrency = positive(name, value);
+                case "rate" -> options.rate = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = positive(name, value);
+                case "batch-size" -> options.batchSize = positive(name, value);
+                case "client-threads" -> options.clientThreads = positive(name, value);
+                case "mix" -> options.parseMix(value);
+                case "hgrm-dir" -> options.hgrmDir = value;
+                default -> throw new IllegalArgumentException("Bilinmeyen seçenek: --" + name);
+            }
+        }
+        if (options.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix en az bir pozitif ağırlık içermeli");
+        }
+        return options;
+    }
+
+    /**
+     * "public=60,audit=10" gibi; belirtilmeyen işlemler 0 ağırlık alır
+     */
+    private void parseMix(String value) {
+        mix.replaceAll((operation, weight) -> 0);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Geçersiz --mix girdisi: " + part);
+            }
+            mix.put(Operation.fromOptionName(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+    }
+
+    private static int positive(String name, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("--" + name + " pozitif olmalı");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,45 @@
+package com.configmanager.loadtest;
+
+/**
+ * Yük karışımındaki işlemler; rapor satırları endpoint şablonuyla etiketlenir
+ */
+enum Operation {
+
+    PUBLIC_FETCH("public", "GET /api/public/configs", 60),
+    PUBLIC_FETCH_PREFIX("public-prefix", "GET /api/public/configs?prefix", 10),
+    DASHBOARD_PROJECTS("projects", "GET /api/projects/page", 5),
+    DASHBOARD_CONFIGS("configs", "GET /api/projects/{id}/configs/page", 10),
+    BATCH_WRITE("batch", "POST /api/config/batch", 5),
+    AUDIT_QUERY("audit", "GET /api/audit-logs/cursor", 10);
+
+    private final String optionName;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String optionName, String endpoint, int defaultWeight) {
+        this.optionName = optionName;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String getOptionName() {
+        return optionName;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    static Operation fromOptionName(String name) {
+        for (Operation operation : values()) {
+            if (operation.optionName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen işlem: " + name);
+    }
+}
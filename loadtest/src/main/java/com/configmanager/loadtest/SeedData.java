@@ -0,0 +1,17 @@
+package com.configmanager.loadtest;
+
+import java.util.List;
+
+/**
+ * Seed sonrası yük üretiminde kullanılan kimlikler
+ *
+ * @param projects     Oluşturulan projeler ve API key'leri
+ * @param environments Her projede doldurulan environment'lar
+ * @param keys         Her (proje, environment) altındaki key'ler
+ * @param prefixes     Prefix'li public fetch için birinci seviye segmentler ("service3.")
+ */
+record SeedData(List<SeededProject> projects, List<String> environments, List<String> keys, List<String> prefixes) {
+
+    record SeededProject(long id, String apiKey) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.configmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * N proje x M environment x K key'i uygulamanın kendi API'si üzerinden oluşturur
+ */
+final class Seeder {
+
+    // Tek batch isteğinde gönderilecek en fazla key
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    static final int SERVICE_COUNT = 10;
+    private static final int COMPONENT_COUNT = 5;
+
+    private final ApiClient apiClient;
+    private final LoadTestOptions options;
+
+    Seeder(ApiClient apiClient, LoadTestOptions options) {
+        this.apiClient = apiClient;
+        this.options = options;
+    }
+
+    SeedData seed() throws InterruptedException {
+        List<String> environments = new ArrayList<>();
+        for (int e = 0; e < options.environments; e++) {
+            environments.add(e == 0 ? "production" : e == 1 ? "staging" : "env" + e);
+        }
+        List<String> keys = new ArrayList<>();
+        for (int k = 0; k < options.keys; k++) {
+            keys.add(key(k));
+        }
+        List<String> prefixes = new ArrayList<>();
+        for (int s = 0; s < Math.min(SERVICE_COUNT, options.keys); s++) {
+            prefixes.add("service" + s + ".");
+        }
+
+        long runId = System.currentTimeMillis();
+        List<SeedData.SeededProject> projects = new ArrayList<>();
+        for (int p = 0; p < options.projects; p++) {
+            JsonNode project = apiClient.createProject("loadtest-" + runId + "-" + p);
+            long projectId = project.get("id").asLong();
+            for (String environment : environments) {
+                Map<String, String> chunk = new LinkedHashMap<>();
+                for (int k = 0; k < keys.size(); k++) {
+                    chunk.put(keys.get(k), value(environment, k, 0));
+                    if (chunk.size() == SEED_CHUNK_SIZE) {
+                        apiClient.seedBatch(projectId, environment, chunk);
+                        chunk = new LinkedHashMap<>();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    apiClient.seedBatch(projectId, environment, chunk);
+                }
+            }
+            projects.add(new SeedData.SeededProject(projectId, project.get("apiKey").asText()));
+        }
+        return new SeedData(List.copyOf(projects), List.copyOf(environments), List.copyOf(keys),
+                List.copyOf(prefixes));
+    }
+
+    /**
+     * service.component.setting hiyerarşisi; key namespace trie'si gerçekçi bir dallanma görür
+     */
+    static String key(int index) {
+        return "service" + (index % SERVICE_COUNT)
+                + ".component" + ((index / SERVICE_COUNT) % COMPONENT_COUNT)
+                + ".setting" + index;
+    }
+
+    static String value(String environment, int index, long revision) {
+        return index % 4 == 0
+                ? "https://service-" + index + "." + environment + ".internal:8443/api/v" + revision
+                : environment + "-value-" + index + "-r" + revision;
+    }
+}
@@ -0,0 +1,216 @@
+package com.configmanager.audit;
+
+import com.configmanager.dto.AuditArchiveDTO;
+import com.configmanager.dto.AuditLogDTO;
+import com.configmanager.mapper.DTOMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Süresi dolan audit kayıtlarının arşivi. Her dosya bir zaman aralığını kapsayan gzip'li NDJSON'dur
+ * (satır başına bir AuditEntry); uygulama dışında da zcat | jq ile sorgulanabilir.
+ */
+@Component
+public class AuditArchiveStore {
+
+    static final String SELECT_COLUMNS =
+            "SELECT a.id, a.user_id, a.username, a.action, a.resource_type, a.resource_id, a.resource_name, a.description, " +
+            "COALESCE(ip.\"value\", a.ip_address) AS ip_address, COALESCE(ua.\"value\", a.user_agent) AS user_agent, " +
+            "a.status, a.error_message, a.created_at FROM ";
+    // Arşivde sözlük id'leri yerine değerlerin kendisi tutulur
+    static final String DICTIONARY_JOINS =
+            " a LEFT JOIN audit_ip_addresses ip ON ip.id = a.ip_address_id" +
+            " LEFT JOIN audit_user_agents ua ON ua.id = a.user_agent_id";
+
+    private static final Pattern ARCHIVE_NAME =
+            Pattern.compile("audit_logs_(\\d{8}|min)_(\\d{8})(_\\d+)?\\.ndjson\\.gz");
+    private static final DateTimeFormatter NAME_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DTOMapper dtoMapper;
+
+    @Value("${app.audit.archive.dir:${java.io.tmpdir}/configmanager-audit-archive}")
+    private String archiveDir;
+
+    @Value("${app.audit.archive.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Sorgu sonucunu satır satır arşive yazar; whereClause'da tablo "a" alias'ı ile kullanılır.
+     * Dosya önce geçici adla yazılıp sonra taşınır, böylece yarım kalan bir export arşiv olarak görünmez.
+     * Yazılan kayıt sayısını döndürür.
+     * Çağıran, sunucu taraflı cursor için bir transaction içinde olmalıdır.
+     */
+    public long export(String table, String whereClause, Object[] args, LocalDateTime from, LocalDateTime to) {
+        Path dir = Paths.get(archiveDir);
+        Path target = dir.resolve(fileName(from, to, dir));
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        long[] count = new long[1];
+
+        try {
+            Files.createDirectories(dir);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                String sql = SELECT_COLUMNS + table + DICTIONARY_JOINS + (whereClause != null ? " WHERE " + whereClause : "");
+                streaming.query(sql, rs -> {
+                    try {
+                        writer.write(objectMapper.writeValueAsString(mapRow(rs)));
+                        writer.newLine();
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, args);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Geçici dosya bir sonraki çalışmada üzerine yazılır
+            }
+            throw new IllegalStateException("Audit arşivi yazılamadı: " + target, e);
+        }
+        return count[0];
+    }
+
+    public List<AuditArchiveDTO> listArchives() {
+        Path dir = Paths.get(archiveDir);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(this::describe)
+                    .filter(archive -> archive != null)
+                    .sorted(Comparator.comparing(AuditArchiveDTO::getTo).thenComparing(AuditArchiveDTO::getFileName))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Arşiv dosyasını tarayıp filtrelere uyan ilk limit kaydı döndürür
+     */
+    public List<AuditLogDTO> query(String fileName, Long userId, String action, String status,
+            LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        if (!ARCHIVE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Geçersiz arşiv adı: " + fileName);
+        }
+        Path file = Paths.get(archiveDir).resolve(fileName);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Arşiv bulunamadı: " + fileName);
+        }
+
+        List<AuditLogDTO> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while (result.size() < limit && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                AuditEntry entry = objectMapper.readValue(line, AuditEntry.class);
+                if ((userId == null || userId.equals(entry.userId()))
+                        && (action == null || action.equals(entry.action()))
+                        && (status == null || status.equals(entry.status()))
+                        && (startDate == null || !entry.createdAt().isBefore(startDate))
+                        && (endDate == null || entry.createdAt().isBefore(endDate))) {
+                    result.add(dtoMapper.toAuditLogDTO(entry));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    static AuditEntry mapRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new AuditEntry(
+                rs.getLong("id"),
+                getLong(rs, "user_id"),
+                rs.getString("username"),
+                rs.getString("action"),
+                rs.getString("resource_type"),
+                getLong(rs, "resource_id"),
+                rs.getString("resource_name"),
+                rs.getString("description"),
+                rs.getString("ip_address"),
+                rs.getString("user_agent"),
+                rs.getString("status"),
+                rs.getString("error_message"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                null);
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String fileName(LocalDateTime from, LocalDateTime to, Path dir) {
+        String base = "audit_logs_" + (from != null ? NAME_DATE.format(from) : "min") + "_" + NAME_DATE.format(to);
+        // Aynı aralık daha önce arşivlendiyse (örn. yarıda kalan silme) üzerine yazma
+        if (Files.exists(dir.resolve(base + ".ndjson.gz"))) {
+            base += "_" + System.currentTimeMillis();
+        }
+        return base + ".ndjson.gz";
+    }
+
+    private AuditArchiveDTO describe(Path file) {
+        Matcher matcher = ARCHIVE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return AuditArchiveDTO.builder()
+                    .fileName(file.getFileName().toString())
+                    .from(matcher.group(1).equals("min") ? null : LocalDate.parse(matcher.group(1), NAME_DATE).atStartOfDay())
+                    .to(LocalDate.parse(matcher.group(2), NAME_DATE).atStartOfDay())
+                    .sizeBytes(Files.size(file))
+                    .build();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
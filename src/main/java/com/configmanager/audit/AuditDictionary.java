@@ -0,0 +1,127 @@
+package com.configmanager.audit;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.util.Digests;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * User agent ve IP değerlerini küçük sözlük id'lerine çevirir (ve tersi).
+ * Audit satırları tekrar eden metin yerine id taşır; her iki yön de bellekte cache'lenir.
+ * intern metodları kendi auto-commit'leriyle çalışır, writer'ın batch transaction'ı dışında çağrılmalıdır.
+ */
+@Component
+public class AuditDictionary {
+
+    private static final int MAX_IP_LENGTH = 64;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.dictionary.cache-size:10000}")
+    private int cacheSize;
+
+    private LruCache<String, Long> userAgentIds;
+    private LruCache<Long, String> userAgents;
+    private LruCache<String, Long> ipAddressIds;
+    private LruCache<Long, String> ipAddresses;
+
+    @PostConstruct
+    void init() {
+        userAgentIds = new LruCache<>("audit-user-agent-ids", cacheSize);
+        userAgents = new LruCache<>("audit-user-agents", cacheSize);
+        ipAddressIds = new LruCache<>("audit-ip-address-ids", cacheSize);
+        ipAddresses = new LruCache<>("audit-ip-addresses", cacheSize);
+    }
+
+    public Long internUserAgent(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return null;
+        }
+        String hash = Digests.sha256Hex(userAgent);
+        Long id = userAgentIds.get(hash, h -> findOrInsert(
+                "SELECT id FROM audit_user_agents WHERE hash = ?",
+                "INSERT INTO audit_user_agents (hash, \"value\") VALUES (?, ?)",
+                h, userAgent));
+        if (id != null) {
+            userAgents.put(id, userAgent);
+        }
+        return id;
+    }
+
+    public Long internIpAddress(String ipAddress) {
+        if (ipAddress == null || ipAddress.isEmpty()) {
+            return null;
+        }
+        String value = ipAddress.length() > MAX_IP_LENGTH ? ipAddress.substring(0, MAX_IP_LENGTH) : ipAddress;
+        Long id = ipAddressIds.get(value, v -> findOrInsert(
+                "SELECT id FROM audit_ip_addresses WHERE \"value\" = ?",
+                "INSERT INTO audit_ip_addresses (\"value\") VALUES (?)",
+                v));
+        if (id != null) {
+            ipAddresses.put(id, value);
+        }
+        return id;
+    }
+
+    public String userAgent(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return userAgents.get(id, key -> single(jdbcTemplate.queryForList(
+                "SELECT \"value\" FROM audit_user_agents WHERE id = ?", String.class, key)));
+    }
+
+    public String ipAddress(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return ipAddresses.get(id, key -> single(jdbcTemplate.queryForList(
+                "SELECT \"value\" FROM audit_ip_addresses WHERE id = ?", String.class, key)));
+    }
+
+    /**
+     * Değer varsa id'sini döndür, yoksa ekle. Başka bir node aynı anda eklediyse unique ihlali sonrası tekrar okunur.
+     * İlk parametre (hash ya da value) arama anahtarıdır.
+     */
+    private Long findOrInsert(String selectSql, String insertSql, Object... values) {
+        Long existing = single(jdbcTemplate.queryForList(selectSql, Long.class, values[0]));
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(insertSql, new String[] { "id" });
+                for (int i = 0; i < values.length; i++) {
+                    ps.setObject(i + 1, values[i]);
+                }
+                return ps;
+            }, keyHolder);
+            return keyHolder.getKey().longValue();
+        } catch (DuplicateKeyException e) {
+            return single(jdbcTemplate.queryForList(selectSql, Long.class, values[0]));
+        }
+    }
+
+    private static <T> T single(List<T> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    public LruCache<Long, String> getUserAgentCache() {
+        return userAgents;
+    }
+
+    public LruCache<Long, String> getIpAddressCache() {
+        return ipAddresses;
+    }
+}
@@ -0,0 +1,29 @@
+package com.configmanager.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kuyruğa alınan audit kaydı. Request bilgileri (IP, user agent) request thread'inde doldurulur;
+ * id, writer batch insert'ü yaptıktan sonra atanır. projectId audit_logs'a yazılmaz, sadece rollup'lar içindir.
+ */
+public record AuditEntry(
+        Long id,
+        Long userId,
+        String username,
+        String action,
+        String resourceType,
+        Long resourceId,
+        String resourceName,
+        String description,
+        String ipAddress,
+        String userAgent,
+        String status,
+        String errorMessage,
+        LocalDateTime createdAt,
+        Long projectId) {
+
+    public AuditEntry withId(Long newId) {
+        return new AuditEntry(newId, userId, username, action, resourceType, resourceId, resourceName,
+                description, ipAddress, userAgent, status, errorMessage, createdAt, projectId);
+    }
+}
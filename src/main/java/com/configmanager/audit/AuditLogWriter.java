@@ -0,0 +1,514 @@
+package com.configmanager.audit;
+
+import com.configmanager.jfr.AuditBatchWriteEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Audit kayıtlarını request yolundan çıkaran arka plan yazıcı.
+ * Kayıtlar sınırlı, kilitsiz bir kuyruğa alınır; tek bir writer thread'i kuyruğu
+ * JDBC batch insert'leriyle boşaltır. Audit yazımındaki bir hata iş işlemini geri almaz.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (user_id, username, action, resource_type, resource_id, resource_name, " +
+            "description, ip_address_id, user_agent_id, status, error_message, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_SUFFIX = ".replay";
+    private static final String OFFSET_SUFFIX = ".offset";
+    private static final String DEAD_LETTER_FILE = "audit-spill.dead.ndjson";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuditRollupAggregator rollupAggregator;
+
+    @Autowired
+    private AuditTailBroadcaster tailBroadcaster;
+
+    @Autowired
+    private RecentActivityCache recentActivityCache;
+
+    @Autowired
+    private AuditDictionary auditDictionary;
+
+    @Value("${app.audit.writer.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.audit.writer.flush-size:200}")
+    private int flushSize;
+
+    @Value("${app.audit.writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${app.audit.writer.overflow-policy:SPILL}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${app.audit.writer.spill-dir:${java.io.tmpdir}/configmanager-audit-spill}")
+    private String spillDir;
+
+    private final ConcurrentLinkedQueue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object spillLock = new Object();
+    private BufferedWriter spillWriter; // spillLock ile korunur; taşma sürdükçe açık kalır, replay öncesi kapanır
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Kalan kayıtları yaz; yazılamazsa diske at
+        flushSafely();
+        spill(drain(Integer.MAX_VALUE));
+        synchronized (spillLock) {
+            closeSpillWriter();
+        }
+    }
+
+    /**
+     * Kaydı kuyruğa al; kuyruk doluysa overflow politikasını uygula
+     */
+    public void enqueue(AuditEntry entry) {
+        if (tryOffer(entry)) {
+            if (depth.get() >= flushSize && flushRequested.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::flushSafely);
+                } catch (RejectedExecutionException e) {
+                    // Kapanış sırasında; kalan kayıtlar stop() içinde yazılır
+                }
+            }
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> dropped.increment();
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) {
+                    depth.decrementAndGet();
+                }
+                dropped.increment();
+                if (!tryOffer(entry)) {
+                    dropped.increment();
+                }
+            }
+            case CALLER_RUNS -> {
+                try {
+                    writeBatch(List.of(entry));
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    logger.warn("Audit log senkron yazılamadı: {}", e.getMessage());
+                }
+            }
+            case SPILL -> spill(List.of(entry));
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getDeadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    private boolean tryOffer(AuditEntry entry) {
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+        queue.offer(entry);
+        return true;
+    }
+
+    private List<AuditEntry> drain(int max) {
+        List<AuditEntry> batch = new ArrayList<>(Math.min(max, flushSize));
+        AuditEntry entry;
+        while (batch.size() < max && (entry = queue.poll()) != null) {
+            depth.decrementAndGet();
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+            flushSpillWriter();
+            replaySpill();
+        } catch (RuntimeException e) {
+            logger.warn("Audit log flush başarısız: {}", e.getMessage());
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            List<AuditEntry> batch = drain(flushSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException e) {
+                failed.add(batch.size());
+                logger.warn("Audit batch yazılamadı ({} kayıt), diske aktarılıyor: {}", batch.size(), e.getMessage());
+                spill(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Batch'i tek transaction'da yaz, üretilen id'lerle birlikte döndür.
+     * Commit sonrası yan etkilerdeki hatalar sadece loglanır; batch tekrar diske aktarılmaz.
+     */
+    private List<AuditEntry> writeBatch(List<AuditEntry> batch) {
+        AuditBatchWriteEvent event = new AuditBatchWriteEvent();
+        event.begin();
+        // Sözlük id'leri batch transaction'ından önce, kendi auto-commit'leriyle çözülür
+        Long[] ipAddressIds = new Long[batch.size()];
+        Long[] userAgentIds = new Long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ipAddressIds[i] = auditDictionary.internIpAddress(batch.get(i).ipAddress());
+            userAgentIds[i] = auditDictionary.internUserAgent(batch.get(i).userAgent());
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, batch.get(i), ipAddressIds[i], userAgentIds[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder));
+        written.add(batch.size());
+        event.batchSize = batch.size();
+        event.commit();
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<AuditEntry> saved = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Long id = i < keys.size() ? firstNumber(keys.get(i)) : null;
+            saved.add(batch.get(i).withId(id));
+        }
+        afterWrite("rollup", () -> rollupAggregator.record(saved));
+        afterWrite("recent activity", () -> recentActivityCache.record(saved));
+        afterWrite("tail", () -> tailBroadcaster.publish(saved));
+        return saved;
+    }
+
+    private static void afterWrite(String name, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("Audit {} güncellemesi başarısız, kayıtlar yazıldı: {}", name, e.getMessage(), e);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuditEntry entry, Long ipAddressId, Long userAgentId) throws SQLException {
+        setLong(ps, 1, entry.userId());
+        ps.setString(2, entry.username());
+        ps.setString(3, entry.action());
+        ps.setString(4, entry.resourceType());
+        setLong(ps, 5, entry.resourceId());
+        ps.setString(6, entry.resourceName());
+        ps.setString(7, entry.description());
+        setLong(ps, 8, ipAddressId);
+        setLong(ps, 9, userAgentId);
+        ps.setString(10, entry.status());
+        ps.setString(11, entry.errorMessage());
+        ps.setTimestamp(12, Timestamp.valueOf(entry.createdAt()));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static Long firstNumber(Map<String, Object> key) {
+        for (Object value : key.values()) {
+            if (value instanceof Number number) {
+                return number.longValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Kayıtları spill dosyasına ekle. Dosya her kayıtta açılıp kapanmaz; tampon audit-writer thread'inin
+     * her turunda diske aktarılır.
+     */
+    private void spill(List<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        synchronized (spillLock) {
+            int written = 0;
+            try {
+                if (spillWriter == null) {
+                    Path dir = Paths.get(spillDir);
+                    Files.createDirectories(dir);
+                    spillWriter = Files.newBufferedWriter(dir.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                for (AuditEntry entry : entries) {
+                    String line;
+                    try {
+                        line = objectMapper.writeValueAsString(entry);
+                    } catch (JsonProcessingException e) {
+                        dropped.increment();
+                        written++;
+                        logger.warn("Audit kaydı serileştirilemedi, atlandı: {}", e.getOriginalMessage());
+                        continue;
+                    }
+                    spillWriter.write(line);
+                    spillWriter.newLine();
+                    spilled.increment();
+                    written++;
+                }
+            } catch (IOException e) {
+                dropped.add(entries.size() - written);
+                logger.warn("Audit kayıtları diske yazılamadı, {} kayıt atlandı: {}", entries.size() - written, e.getMessage());
+                closeSpillWriter();
+            }
+        }
+    }
+
+    private void flushSpillWriter() {
+        synchronized (spillLock) {
+            if (spillWriter == null) {
+                return;
+            }
+            try {
+                spillWriter.flush();
+            } catch (IOException e) {
+                logger.warn("Audit spill dosyası diske aktarılamadı: {}", e.getMessage());
+                closeSpillWriter();
+            }
+        }
+    }
+
+    // spillLock tutulurken çağrılır
+    private void closeSpillWriter() {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.close();
+        } catch (IOException e) {
+            logger.warn("Audit spill dosyası kapatılamadı: {}", e.getMessage());
+        }
+        spillWriter = null;
+    }
+
+    /**
+     * Diske taşan kayıtları kuyruk boşken geri yükle. Her commit edilen batch'ten sonra dosyadaki ilerleme
+     * kaydedilir; yarıda kalan bir replay kaldığı yerden devam eder. Sadece ilerleme kaydedilmeden önce
+     * çöken son batch iki kez yazılabilir. Okunamayan satırlar dead-letter dosyasına aktarılır.
+     */
+    private void replaySpill() {
+        if (depth.get() > 0) {
+            return;
+        }
+        Path dir = Paths.get(spillDir);
+        Path spillFile = dir.resolve(SPILL_FILE);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        synchronized (spillLock) {
+            // Kuyruk boş, taşma bitti: açık dosya kapanır, sonraki taşma yeni dosyaya yazar
+            closeSpillWriter();
+            if (Files.exists(spillFile)) {
+                try {
+                    Files.move(spillFile, dir.resolve(SPILL_FILE + "." + System.currentTimeMillis() + REPLAY_SUFFIX));
+                } catch (IOException e) {
+                    logger.warn("Audit spill dosyası taşınamadı: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path replayFile : files.filter(f -> f.toString().endsWith(REPLAY_SUFFIX)).sorted().toList()) {
+                replayFile(replayFile);
+            }
+        } catch (IOException e) {
+            logger.warn("Audit spill dizini okunamadı: {}", e.getMessage());
+        }
+    }
+
+    private void replayFile(Path file) throws IOException {
+        Path offsetFile = file.resolveSibling(file.getFileName() + OFFSET_SUFFIX);
+        long committed = readOffset(offsetFile);
+        long position = 0;
+        List<AuditEntry> batch = new ArrayList<>(flushSize);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                position++;
+                if (position <= committed || line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, AuditEntry.class));
+                } catch (JsonProcessingException e) {
+                    deadLetter(line, e);
+                    if (batch.isEmpty()) {
+                        writeOffset(offsetFile, position);
+                    }
+                    continue;
+                }
+                if (batch.size() >= flushSize) {
+                    writeBatch(batch);
+                    writeOffset(offsetFile, position);
+                    batch = new ArrayList<>(flushSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        Files.delete(file);
+        Files.deleteIfExists(offsetFile);
+    }
+
+    private static long readOffset(Path offsetFile) {
+        try {
+            return Files.exists(offsetFile) ? Long.parseLong(Files.readString(offsetFile).trim()) : 0;
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Audit replay ilerlemesi okunamadı, dosya baştan işlenecek: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private static void writeOffset(Path offsetFile, long position) throws IOException {
+        Path temp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(position), StandardCharsets.UTF_8);
+        Files.move(temp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Okunamayan satırı olduğu gibi ayrı bir dosyaya taşı; replay'i durdurmaz
+     */
+    private void deadLetter(String line, JsonProcessingException error) throws IOException {
+        logger.warn("Audit spill satırı okunamadı, dead-letter dosyasına aktarılıyor: {}", error.getOriginalMessage());
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(spillDir).resolve(DEAD_LETTER_FILE),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        deadLettered.increment();
+    }
+}
@@ -0,0 +1,199 @@
+package com.configmanager.audit;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * audit_logs tablosunun zaman bazlı bölümlenmesi ve saklama süresi.
+ * Postgres'te audit_logs RANGE(created_at) ile bölümlenmişse (bkz. db/audit_logs_partitioning.sql)
+ * gelecek periyotların partition'ları önceden açılır, süresi dolanlar arşivlenip DETACH + DROP edilir.
+ * Bölümlenmemiş tablolarda (H2, migration uygulanmamış Postgres) aynı periyotlar arşivlenip aralık silmesiyle temizlenir.
+ */
+@Component
+@Lazy(false) // Hiçbir bean'e inject edilmediği için lazy-initialization altında zamanlanmazdı
+public class AuditPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    private static final String TABLE = "audit_logs";
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuditArchiveStore archiveStore;
+
+    @Value("${app.audit.partition.period:MONTH}")
+    private PartitionPeriod period;
+
+    @Value("${app.audit.partition.precreate:2}")
+    private int precreate;
+
+    @Value("${app.audit.retention.days:365}")
+    private int retentionDays; // 0: saklama süresi yok
+
+    private TransactionTemplate transactionTemplate;
+
+    private volatile boolean warnedUnpartitioned;
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.audit.partition.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            boolean partitioned = isPartitioned();
+            if (!partitioned && !warnedUnpartitioned && isPostgres()) {
+                warnedUnpartitioned = true;
+                logger.warn("audit_logs bölümlenmemiş; saklama süresi DELETE ile uygulanıyor. "
+                        + "Sabit maliyetli silme için db/audit_logs_partitioning.sql çalıştırılmalı");
+            }
+            if (partitioned) {
+                createUpcomingPartitions(LocalDateTime.now());
+            }
+            if (retentionDays > 0) {
+                LocalDateTime cutoff = period.start(LocalDateTime.now().minusDays(retentionDays));
+                if (partitioned) {
+                    dropExpiredPartitions(cutoff);
+                } else {
+                    purgeExpiredRows(cutoff);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Audit partition bakımı başarısız: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Mevcut ve sonraki precreate periyot için partition açar. Mevcut partition'ların kapsadığı
+     * aralık atlanır; örn. migration'daki legacy partition bu ayın sonuna kadar uzanır.
+     */
+    void createUpcomingPartitions(LocalDateTime now) {
+        LocalDateTime start = period.start(now);
+        LocalDateTime until = period.next(start);
+        for (int i = 0; i < precreate; i++) {
+            until = period.next(until);
+        }
+        LocalDateTime covered = listPartitions().stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        if (covered != null && covered.isAfter(start)) {
+            start = period.start(covered).equals(covered) ? covered : period.next(period.start(covered));
+        }
+        while (start.isBefore(until)) {
+            LocalDateTime end = period.next(start);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + "_p" + period.suffix(start)
+                    + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + Timestamp.valueOf(start) + "') TO ('" + Timestamp.valueOf(end) + "')");
+            start = end;
+        }
+    }
+
+    /**
+     * Üst sınırı cutoff'tan eski partition'ları arşivle, ayır ve sil. Silme veri boyutundan bağımsızdır.
+     */
+    void dropExpiredPartitions(LocalDateTime cutoff) {
+        for (Partition partition : listPartitions()) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+            String quoted = "\"" + partition.name() + "\"";
+            long exported = transactionTemplate.execute(status -> archiveStore.export(
+                    quoted, null, new Object[0], null, partition.upperBound()));
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + quoted);
+            jdbcTemplate.execute("DROP TABLE " + quoted);
+            logger.info("Audit partition {} arşivlendi ({} kayıt) ve silindi", partition.name(), exported);
+        }
+    }
+
+    /**
+     * Bölümlenmemiş tablo için: cutoff öncesini periyot periyot arşivle ve sil
+     */
+    void purgeExpiredRows(LocalDateTime cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + TABLE, Timestamp.class);
+        if (oldest == null) {
+            return;
+        }
+        for (LocalDateTime start = period.start(oldest.toLocalDateTime()); start.isBefore(cutoff); start = period.next(start)) {
+            LocalDateTime from = start;
+            LocalDateTime to = period.next(start);
+            Object[] range = { Timestamp.valueOf(from), Timestamp.valueOf(to) };
+            long exported = transactionTemplate.execute(status -> {
+                long count = archiveStore.export(TABLE, "a.created_at >= ? AND a.created_at < ?", range, from, to);
+                jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE created_at >= ? AND created_at < ?", range);
+                return count;
+            });
+            if (exported > 0) {
+                logger.info("Audit kayıtları {} - {} arşivlendi ve silindi ({} kayıt)", from, to, exported);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isPartitioned() {
+        if (!isPostgres()) {
+            return false;
+        }
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, TABLE);
+        return kinds.contains("p");
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound " +
+                "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname",
+                (rs, rowNum) -> new Partition(rs.getString("relname"), upperBound(rs.getString("bound"))),
+                TABLE);
+    }
+
+    // DEFAULT partition'ın üst sınırı yoktur, hiçbir zaman silinmez
+    private static LocalDateTime upperBound(String bound) {
+        Matcher matcher = bound != null ? UPPER_BOUND.matcher(bound) : null;
+        if (matcher == null || !matcher.find()) {
+            return null;
+        }
+        return Timestamp.valueOf(matcher.group(1)).toLocalDateTime();
+    }
+}
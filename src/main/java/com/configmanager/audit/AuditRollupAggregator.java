@@ -0,0 +1,134 @@
+package com.configmanager.audit;
+
+import com.configmanager.entity.RollupMetric;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Yazılan audit kayıtlarından saatlik sayaçlar üretir. Sayaçlar önce bellekte toplanır,
+ * periyodik olarak audit_rollups tablosuna "event_count = event_count + delta" şeklinde eklenir.
+ */
+@Component
+public class AuditRollupAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRollupAggregator.class);
+
+    private static final Set<String> CONFIG_CHANGE_ACTIONS = Set.of("CREATE_CONFIG", "UPDATE_CONFIG", "DELETE_CONFIG");
+
+    private static final String UPDATE_SQL =
+            "UPDATE audit_rollups SET event_count = event_count + ? WHERE metric = ? AND bucket_start = ? AND dimension = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_rollups (metric, bucket_start, dimension, event_count) VALUES (?, ?, ?, ?)";
+
+    public record RollupKey(RollupMetric metric, LocalDateTime bucketStart, String dimension) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Object lock = new Object();
+    private Map<RollupKey, long[]> pending = new HashMap<>();
+
+    /**
+     * DB'ye yazılmış kayıtları sayaçlara ekle
+     */
+    public void record(List<AuditEntry> entries) {
+        synchronized (lock) {
+            for (AuditEntry entry : entries) {
+                LocalDateTime bucket = entry.createdAt().truncatedTo(ChronoUnit.HOURS);
+                increment(RollupMetric.ACTION, bucket, entry.action());
+                if (entry.username() != null) {
+                    increment(RollupMetric.USER, bucket, entry.username());
+                }
+                if ("LOGIN".equals(entry.action()) && "FAILURE".equals(entry.status())) {
+                    increment(RollupMetric.FAILED_LOGIN, bucket, "");
+                }
+                if (entry.projectId() != null && CONFIG_CHANGE_ACTIONS.contains(entry.action())) {
+                    increment(RollupMetric.CONFIG_CHANGE, bucket, entry.projectId().toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Henüz DB'ye yazılmamış sayaçların kopyası; istatistiklerin güncel kalması için sorgulara eklenir
+     */
+    public Map<RollupKey, Long> pendingCounts(RollupMetric metric) {
+        Map<RollupKey, Long> result = new HashMap<>();
+        synchronized (lock) {
+            pending.forEach((key, count) -> {
+                if (key.metric() == metric) {
+                    result.put(key, count[0]);
+                }
+            });
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.rollup.flush-interval-ms:10000}")
+    public void flush() {
+        Map<RollupKey, long[]> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> upsert(batch));
+        } catch (RuntimeException e) {
+            logger.warn("Audit rollup'ları yazılamadı, bir sonraki denemede tekrar eklenecek: {}", e.getMessage());
+            synchronized (lock) {
+                batch.forEach((key, count) -> pending.computeIfAbsent(key, k -> new long[1])[0] += count[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private void upsert(Map<RollupKey, long[]> batch) {
+        List<RollupKey> keys = new ArrayList<>(batch.keySet());
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, keys.stream()
+                .map(key -> new Object[] { batch.get(key)[0], key.metric().name(), Timestamp.valueOf(key.bucketStart()), key.dimension() })
+                .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (updated[i] == 0) {
+                RollupKey key = keys.get(i);
+                inserts.add(new Object[] { key.metric().name(), Timestamp.valueOf(key.bucketStart()), key.dimension(), batch.get(key)[0] });
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    private void increment(RollupMetric metric, LocalDateTime bucket, String dimension) {
+        pending.computeIfAbsent(new RollupKey(metric, bucket, dimension), k -> new long[1])[0]++;
+    }
+}
@@ -0,0 +1,162 @@
+package com.configmanager.audit;
+
+import com.configmanager.mapper.DTOMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Commit edilen audit kayıtlarını açık SSE bağlantılarına dağıtır. Filtreleme bellekte yapılır;
+ * açık tail sayısı DB yükünü etkilemez. Yavaş istemciler yüzünden writer beklemez:
+ * dağıtım ayrı bir thread'de yapılır, o da yetişemezse en eski batch'ler atlanır (tail best-effort'tur).
+ */
+@Component
+public class AuditTailBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditTailBroadcaster.class);
+
+    @Autowired
+    private DTOMapper dtoMapper;
+
+    @Value("${app.audit.tail.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${app.audit.tail.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.audit.tail.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    /**
+     * userId null ise tüm kullanıcıların kayıtları (ADMIN); boş set filtresiz demektir
+     */
+    private record Subscriber(SseEmitter emitter, Long userId, Set<String> actions, Set<String> resourceTypes) {
+
+        boolean matches(AuditEntry entry) {
+            return (userId == null || userId.equals(entry.userId()))
+                    && (actions.isEmpty() || actions.contains(entry.action()))
+                    && (resourceTypes.isEmpty() || resourceTypes.contains(entry.resourceType()));
+        }
+    }
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final LongAdder droppedBatches = new LongAdder();
+
+    private ThreadPoolExecutor dispatcher;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void start() {
+        dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1000), runnable -> {
+            Thread thread = new Thread(runnable, "audit-tail");
+            thread.setDaemon(true);
+            return thread;
+        }, (task, executor) -> {
+            droppedBatches.increment();
+            executor.getQueue().poll();
+            executor.getQueue().offer(task);
+        });
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-tail-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Yeni bir tail aç; abone sınırı aşıldıysa null
+     */
+    public SseEmitter subscribe(Long userId, Set<String> actions, Set<String> resourceTypes) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId, actions, resourceTypes);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Writer'ın commit ettiği batch'i dağıtım kuyruğuna al
+     */
+    public void publish(List<AuditEntry> entries) {
+        if (subscribers.isEmpty() || entries.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> dispatch(entries));
+        } catch (RejectedExecutionException e) {
+            // Kapanış sırasında
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedBatchCount() {
+        return droppedBatches.sum();
+    }
+
+    private void dispatch(List<AuditEntry> entries) {
+        for (Subscriber subscriber : subscribers) {
+            for (AuditEntry entry : entries) {
+                if (subscriber.matches(entry) && !send(subscriber, SseEmitter.event()
+                        .id(String.valueOf(entry.id()))
+                        .name("audit")
+                        .data(dtoMapper.toAuditLogDTO(entry), MediaType.APPLICATION_JSON))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Bağlantı kopmuş
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            logger.debug("Audit tail bağlantısı kapandı: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.configmanager.audit;
+
+/**
+ * Audit kuyruğu dolduğunda uygulanacak davranış
+ */
+public enum OverflowPolicy {
+    DROP_NEWEST,   // Yeni kaydı at
+    DROP_OLDEST,   // Kuyruğun başındaki en eski kaydı at, yenisini ekle
+    CALLER_RUNS,   // Kaydı çağıran thread'de senkron yaz
+    SPILL          // Kaydı diske (NDJSON) yaz, kuyruk boşalınca geri yükle
+}
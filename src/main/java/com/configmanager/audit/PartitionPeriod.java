@@ -0,0 +1,31 @@
+package com.configmanager.audit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Audit log partition aralığı
+ */
+public enum PartitionPeriod {
+    DAY,
+    MONTH;
+
+    /**
+     * Verilen zamanı içeren periyodun başlangıcı
+     */
+    public LocalDateTime start(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        return (this == DAY ? date : date.withDayOfMonth(1)).atStartOfDay();
+    }
+
+    public LocalDateTime next(LocalDateTime periodStart) {
+        return this == DAY ? periodStart.plusDays(1) : periodStart.plusMonths(1);
+    }
+
+    /**
+     * Partition tablo adı eki, örn. 20261001
+     */
+    public String suffix(LocalDateTime periodStart) {
+        return String.format("%04d%02d%02d", periodStart.getYear(), periodStart.getMonthValue(), periodStart.getDayOfMonth());
+    }
+}
@@ -0,0 +1,145 @@
+package com.configmanager.audit;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.dto.AuditLogDTO;
+import com.configmanager.mapper.DTOMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Kullanıcı başına son N audit kaydı (dashboard "son işlemler").
+ * Buffer ilk okumada DB'den doldurulur, sonra writer'ın yazdığı kayıtlarla güncel tutulur.
+ * Boşta kalan kullanıcıların buffer'ları LRU ile atılır; bellek kullanımı cache boyutu ile sınırlıdır.
+ * Kayıtlar sadece yazan node'un buffer'ına eklenir; diğer node'lar bus üzerinden aynı kullanıcının buffer'ını atar
+ * ve bir sonraki okumada DB'den yükler. Kaçırılan mesajlar için buffer'lar TTL ile de sınırlıdır.
+ */
+@Component
+public class RecentActivityCache {
+
+    @Autowired
+    private DTOMapper dtoMapper;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.audit.recent.size:10}")
+    private int bufferSize;
+
+    @Value("${app.audit.recent.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${app.audit.recent.ttl-ms:300000}")
+    private long ttlMillis;
+
+    private LruCache<Long, RingBuffer> buffers;
+
+    /**
+     * Sabit boyutlu halka; en yeni kayıt en son eklenen
+     */
+    static final class RingBuffer {
+
+        private final AuditLogDTO[] items;
+        private int head; // Bir sonraki yazılacak index
+        private int size;
+
+        RingBuffer(int capacity) {
+            items = new AuditLogDTO[capacity];
+        }
+
+        synchronized void add(AuditLogDTO item) {
+            // Spill replay'inde aynı kayıt tekrar gelebilir
+            for (int i = 0; i < size; i++) {
+                AuditLogDTO existing = items[(head - 1 - i + items.length) % items.length];
+                if (item.getId() != null && item.getId().equals(existing.getId())) {
+                    return;
+                }
+            }
+            items[head] = item;
+            head = (head + 1) % items.length;
+            size = Math.min(size + 1, items.length);
+        }
+
+        /**
+         * En yeniden eskiye
+         */
+        synchronized List<AuditLogDTO> newestFirst() {
+            List<AuditLogDTO> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(items[(head - 1 - i + items.length) % items.length]);
+            }
+            return result;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        buffers = new LruCache<>("recent-activity", cacheSize, ttlMillis);
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                if (message.type() == InvalidationType.AUDIT_ACTIVITY || message.type() == InvalidationType.USER) {
+                    buffers.remove(Long.valueOf(message.key()));
+                }
+            }
+
+            @Override
+            public void onReset() {
+                buffers.clear();
+            }
+        });
+    }
+
+    /**
+     * Kullanıcının son kayıtları; buffer yoksa loader (en yeniden eskiye) ile doldurulur
+     */
+    public List<AuditLogDTO> getRecent(Long userId, Function<Long, List<AuditLogDTO>> loader) {
+        RingBuffer buffer = buffers.get(userId, id -> {
+            RingBuffer loaded = new RingBuffer(bufferSize);
+            List<AuditLogDTO> latest = loader.apply(id);
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                loaded.add(latest.get(i));
+            }
+            return loaded;
+        });
+        return buffer.newestFirst();
+    }
+
+    /**
+     * Writer'ın commit ettiği kayıtlar. Buffer'ı olmayan kullanıcılar atlanır; ilk okumada DB'den yüklenir.
+     */
+    public void record(List<AuditEntry> entries) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (AuditEntry entry : entries) {
+            if (entry.userId() == null) {
+                continue;
+            }
+            userIds.add(entry.userId());
+            RingBuffer buffer = buffers.peek(entry.userId());
+            if (buffer != null) {
+                buffer.add(dtoMapper.toAuditLogDTO(entry));
+            }
+        }
+        // Batch başına kullanıcı başına tek mesaj
+        userIds.forEach(userId -> invalidationBus.publish(InvalidationType.AUDIT_ACTIVITY, userId.toString()));
+    }
+
+    public void evict(Long userId) {
+        buffers.remove(userId);
+    }
+
+    public LruCache<Long, RingBuffer> getCache() {
+        return buffers;
+    }
+}
@@ -0,0 +1,67 @@
+package com.configmanager.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hex kodlu kriptografik özetler (örn. SHA-256) için Bloom filter.
+ * Girdi zaten düzgün dağılımlı olduğundan ilk 32 hex karakter iki 64-bit hash olarak kullanılır,
+ * k konum çift hashing ile (h1 + i * h2) türetilir. Ekleme ve sorgu kilitsizdir.
+ * "Yok" cevabı kesindir; "olabilir" cevabı yaklaşık hedeflenen false-positive oranıyla yanlış olabilir.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.expectedInsertions = n;
+    }
+
+    public void put(String hexDigest) {
+        long h1 = Long.parseUnsignedLong(hexDigest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(hexDigest, 16, 32, 16) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String hexDigest) {
+        long h1 = Long.parseUnsignedLong(hexDigest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(hexDigest, 16, 32, 16) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Beklenen eleman sayısı aşıldıysa false-positive oranı hedefin üstüne çıkar
+     */
+    public boolean isSaturated() {
+        return insertions.sum() > expectedInsertions;
+    }
+
+    public long insertionCount() {
+        return insertions.sum();
+    }
+}
@@ -0,0 +1,142 @@
+package com.configmanager.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Boyutu sınırlı, erişim sırasına göre LRU tahliye yapan basit bellek içi cache.
+ * Girdiler opsiyonel olarak kendi son kullanma zamanlarını taşır (epoch millis).
+ * Loader kilit dışında çalışır; aynı key için eşzamanlı yüklemeler birleştirilmez.
+ */
+public class LruCache<K, V> {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    // Metrik toplama için oluşturulan tüm cache'ler; cache'lerin ömrünü uzatmaz
+    private static final Set<LruCache<?, ?>> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+    }
+
+    private final String name;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruCache(String name, int maxSize) {
+        this(name, maxSize, 0);
+    }
+
+    public LruCache(String name, int maxSize, long defaultTtlMillis) {
+        this.name = name;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        synchronized (INSTANCES) {
+            INSTANCES.add(this);
+        }
+    }
+
+    public static List<LruCache<?, ?>> instances() {
+        synchronized (INSTANCES) {
+            return new ArrayList<>(INSTANCES);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Hit/miss sayaçlarını etkilemeden oku; süresi dolmuşsa null
+     */
+    public synchronized V peek(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry.value() : null;
+    }
+
+    /**
+     * Cache'te yoksa loader ile yükle; null sonuçlar cache'lenmez
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlMillis > 0 ? System.currentTimeMillis() + defaultTtlMillis : NO_EXPIRY);
+    }
+
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new CacheEntry<>(value, expiresAtMillis));
+    }
+
+    public synchronized V remove(K key) {
+        CacheEntry<V> entry = entries.remove(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    public synchronized void removeIf(BiPredicate<? super K, ? super V> predicate) {
+        entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value()));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+}
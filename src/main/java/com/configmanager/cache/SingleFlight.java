@@ -0,0 +1,101 @@
+package com.configmanager.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Aynı key için eşzamanlı yüklemeleri tek bir yüklemede birleştirir.
+ * Yükleme verilen executor'da çalışır; ilk gelen dahil tüm çağıranlar aynı future'ı en fazla timeout kadar bekler.
+ * Takılan bir yükleme bitene kadar key meşgul kalır, yeni gelenler yeni yükleme başlatmadan ona bağlanır.
+ * Sonuç ya da hata tüm bekleyenlere iletilir, hiçbiri saklanmaz: yükleme bitince key serbest kalır.
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Çağıran, yüklemenin bitmesini timeout içinde göremedi ya da yükleme kuyruğu dolu
+     */
+    public static class TimeoutExceededException extends RuntimeException {
+        public TimeoutExceededException(String message) {
+            super(message);
+        }
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Executor executor;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(long timeoutMillis, Executor executor) {
+        this.timeoutMillis = timeoutMillis;
+        this.executor = executor;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        loads.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(loader.get());
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            TimeoutExceededException rejected = new TimeoutExceededException("Yükleme kuyruğu dolu: " + key);
+            future.completeExceptionally(rejected);
+            throw rejected;
+        }
+        return await(key, future);
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TimeoutExceededException("Yükleme " + timeoutMillis + " ms içinde bitmedi: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutExceededException("Yükleme beklenirken kesildi: " + key);
+        } catch (ExecutionException e) {
+            // Lider thread'in hatası aynen iletilir
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
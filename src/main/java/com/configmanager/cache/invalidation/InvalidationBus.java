@@ -0,0 +1,137 @@
+package com.configmanager.cache.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node'lar arası cache invalidation. Mesajlar commit sonrası yayınlanır ve sadece diğer node'lara
+ * teslim edilir; yazan node kendi cache'ini zaten doğrudan günceller.
+ * Alıcı her origin için son sequence'ı tutar; boşluk ya da yeniden bağlanma durumunda
+ * kaçırılan mesajlar bilinemeyeceği için tüm dinleyiciler sıfırlanır.
+ */
+public abstract class InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final Object sendLock = new Object();
+    private long sequence;
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Aktif transaction varsa commit sonrası, yoksa hemen yayınla
+     */
+    public void publish(InvalidationType type, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(type, key);
+                }
+            });
+        } else {
+            send(type, key);
+        }
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getResetCount() {
+        return resets.sum();
+    }
+
+    /**
+     * Payload'ı diğer node'lara ilet
+     */
+    protected abstract void deliver(String payload);
+
+    /**
+     * Alt sınıflar gelen her payload için çağırır
+     */
+    protected void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalidation mesajı okunamadı: {}", payload);
+            return;
+        }
+        if (origin.equals(message.origin())) {
+            return;
+        }
+
+        received.increment();
+        Long last = lastSequences.put(message.origin(), message.sequence());
+        if (last != null && message.sequence() != last + 1) {
+            logger.warn("{} node'undan invalidation mesajı kaçırıldı ({} -> {}), cache'ler sıfırlanıyor",
+                    message.origin(), last, message.sequence());
+            resetAll();
+            return;
+        }
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(message);
+            } catch (RuntimeException e) {
+                logger.warn("Invalidation uygulanamadı ({}): {}", message.type(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tüm dinleyicileri sıfırla; örn. yeniden bağlanınca aradaki mesajlar bilinmediğinde
+     */
+    protected void resetAll() {
+        resets.increment();
+        lastSequences.clear();
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onReset();
+            } catch (RuntimeException e) {
+                logger.warn("Cache sıfırlanamadı: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void send(InvalidationType type, String key) {
+        // Sequence gönderim sırasıyla ardışık olmalı
+        synchronized (sendLock) {
+            InvalidationMessage message = new InvalidationMessage(origin, ++sequence, type, key);
+            try {
+                deliver(message.encode());
+                published.increment();
+            } catch (RuntimeException e) {
+                // Alıcılar sequence boşluğunu görüp sıfırlanır
+                logger.warn("Invalidation mesajı gönderilemedi ({} {}): {}", type, key, e.getMessage());
+            }
+        }
+    }
+}
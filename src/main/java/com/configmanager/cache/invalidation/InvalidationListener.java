@@ -0,0 +1,14 @@
+package com.configmanager.cache.invalidation;
+
+/**
+ * Diğer node'lardan gelen invalidation'ları uygulayan cache sahibi
+ */
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationMessage message);
+
+    /**
+     * Mesaj kaçırılmış olabilir (sequence boşluğu, bağlantı kopması); cache tamamen temizlenmeli
+     */
+    void onReset();
+}
@@ -0,0 +1,25 @@
+package com.configmanager.cache.invalidation;
+
+/**
+ * Kompakt invalidation mesajı: "origin|sequence|TYPE|key".
+ * sequence her node için 1'den başlayıp ardışık artar; alıcı boşluk görürse mesaj kaçırmıştır.
+ */
+public record InvalidationMessage(String origin, long sequence, InvalidationType type, String key) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return origin + SEPARATOR + sequence + SEPARATOR + type.name() + SEPARATOR + key;
+    }
+
+    /**
+     * Bozuk payload için IllegalArgumentException
+     */
+    public static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Geçersiz invalidation mesajı: " + payload);
+        }
+        return new InvalidationMessage(parts[0], Long.parseLong(parts[1]), InvalidationType.valueOf(parts[2]), parts[3]);
+    }
+}
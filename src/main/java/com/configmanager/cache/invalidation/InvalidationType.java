@@ -0,0 +1,13 @@
+package com.configmanager.cache.invalidation;
+
+/**
+ * Node'lar arası cache invalidation mesaj türleri ve key formatları
+ */
+public enum InvalidationType {
+    CONFIG,         // "projectId:environment"
+    PROJECT,        // "projectId"
+    API_KEY,        // API key'in SHA-256 hex'i
+    USER,           // "userId"
+    TOKEN_REVOKED,  // "tokenDigest:expiresAtMillis"
+    AUDIT_ACTIVITY  // "userId"; kullanıcının son işlemler buffer'ı
+}
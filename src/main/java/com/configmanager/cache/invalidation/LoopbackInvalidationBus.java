@@ -0,0 +1,35 @@
+package com.configmanager.cache.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Aynı JVM içindeki node'lar (örn. aynı testte açılan birden fazla application context) arasında
+ * invalidation. Tek node'lu H2 kurulumunda mesajları alacak başka node yoktur.
+ */
+public class LoopbackInvalidationBus extends InvalidationBus {
+
+    private static final List<LoopbackInvalidationBus> NODES = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void register() {
+        NODES.add(this);
+    }
+
+    @PreDestroy
+    void unregister() {
+        NODES.remove(this);
+    }
+
+    @Override
+    protected void deliver(String payload) {
+        for (LoopbackInvalidationBus node : NODES) {
+            if (node != this) {
+                node.receive(payload);
+            }
+        }
+    }
+}
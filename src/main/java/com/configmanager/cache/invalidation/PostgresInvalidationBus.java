@@ -0,0 +1,120 @@
+package com.configmanager.cache.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Postgres LISTEN/NOTIFY üzerinden invalidation. Dinleme, havuzdan bağlantı tutmamak için
+ * ayrı bir JDBC bağlantısıyla yapılır; bağlantı koparsa yeniden bağlanılır ve aradaki mesajlar
+ * bilinemeyeceği için tüm cache'ler sıfırlanır.
+ * Sürücü runtime scope'ta olduğundan PGConnection API'sine reflection ile erişilir.
+ */
+public class PostgresInvalidationBus extends InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    static final String CHANNEL = "cache_invalidation";
+    private static final int POLL_TIMEOUT_MS = 10000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresInvalidationBus(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            String url, String username, String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    /**
+     * afterCommit içinden çağrılır; commit edilmiş transaction'ın bağlantısı yerine yeni transaction kullanılır
+     */
+    @Override
+    protected void deliver(String payload) {
+        newTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT pg_notify(?, ?)", (ResultSetExtractor<Object>) rs -> null, CHANNEL, payload));
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnect) {
+                    // Bağlantı yokken gelen mesajlar kayboldu
+                    resetAll();
+                }
+                reconnect = true;
+
+                Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+                Object pgConnection = connection.unwrap(pgConnectionClass);
+                Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+                Method getParameter = Class.forName("org.postgresql.PGNotification").getMethod("getParameter");
+                while (running) {
+                    Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (Object notification : notifications) {
+                            receive((String) getParameter.invoke(notification));
+                        }
+                    }
+                }
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                logger.error("Postgres sürücüsü bulunamadı, invalidation dinleyici durduruldu: {}", e.getMessage());
+                return;
+            } catch (SQLException | InvocationTargetException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Invalidation dinleyici bağlantısı koptu, {} ms sonra yeniden denenecek: {}",
+                        RECONNECT_DELAY_MS, e instanceof InvocationTargetException ? e.getCause() : e.getMessage());
+                reconnect = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
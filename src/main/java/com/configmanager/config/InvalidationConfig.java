@@ -0,0 +1,35 @@
+package com.configmanager.config;
+
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.LoopbackInvalidationBus;
+import com.configmanager.cache.invalidation.PostgresInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Cache invalidation bus seçimi. auto: Postgres'te LISTEN/NOTIFY, diğer veritabanlarında loopback.
+ */
+@Configuration
+public class InvalidationConfig {
+
+    // Dinleme, ilk cache erişimini beklemeden uygulama açılırken başlamalı
+    @Bean
+    @Lazy(false)
+    public InvalidationBus invalidationBus(
+            @Value("${app.cache.invalidation.mode:auto}") String mode,
+            @Value("${spring.datasource.url:}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        boolean postgres = "postgres".equals(mode) || ("auto".equals(mode) && url.startsWith("jdbc:postgresql:"));
+        if (postgres) {
+            return new PostgresInvalidationBus(jdbcTemplate, transactionManager, url, username, password);
+        }
+        return new LoopbackInvalidationBus();
+    }
+}
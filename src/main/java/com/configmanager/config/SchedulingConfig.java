@@ -0,0 +1,12 @@
+package com.configmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Periyodik bakım işleri (audit partition yönetimi vb.) için zamanlayıcı
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
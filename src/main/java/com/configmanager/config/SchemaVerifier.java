@@ -0,0 +1,96 @@
+package com.configmanager.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ddl-auto=none ile şema uygulama tarafından oluşturulmaz; src/main/resources/db altındaki script'ler
+ * deploy sırasında çalıştırılmalıdır. Açılışta gerekli tablo ve kolonlar kontrol edilir, eksikse uygulama
+ * başlamaz; aksi halde örneğin her audit yazımı hata alıp diske taşardı.
+ */
+@Component
+@Lazy(false)
+public class SchemaVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaVerifier.class);
+
+    private record Requirement(String table, List<String> columns, String script) {
+    }
+
+    private static final List<Requirement> REQUIREMENTS = List.of(
+            new Requirement("audit_logs", List.of("ip_address_id", "user_agent_id"), "audit_logs_dictionary.sql"),
+            new Requirement("audit_user_agents", List.of("id", "hash", "value"), "audit_logs_dictionary.sql"),
+            new Requirement("audit_ip_addresses", List.of("id", "value"), "audit_logs_dictionary.sql"),
+            new Requirement("audit_rollups", List.of("metric", "bucket_start", "dimension", "event_count"),
+                    "audit_rollups.sql"),
+            new Requirement("api_usage", List.of("bucket_start", "project_id", "environment", "api_key_id",
+                    "request_count", "byte_count", "not_modified_count", "error_count"), "api_usage.sql"));
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Hibernate'in (ddl-auto ayarlıysa) şemayı oluşturmasından sonra kontrol edilsin
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.schema.verify:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    void verify() throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        List<String> missing = new ArrayList<>();
+        Set<String> scripts = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Requirement requirement : REQUIREMENTS) {
+                Set<String> columns = columns(metaData, requirement.table());
+                for (String column : requirement.columns()) {
+                    if (!columns.contains(column)) {
+                        missing.add(requirement.table() + "." + column);
+                        scripts.add(requirement.script());
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Veritabanı şeması güncel değil, eksik: " + missing
+                    + ". Çalıştırılması gereken script'ler (src/main/resources/db): " + scripts);
+        }
+        logger.info("Veritabanı şeması doğrulandı");
+    }
+
+    /**
+     * Tablonun kolonları (küçük harf); PostgreSQL küçük, H2 büyük harf tutar
+     */
+    private static Set<String> columns(DatabaseMetaData metaData, String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet rs = metaData.getColumns(null, null, name, null)) {
+                while (rs.next()) {
+                    columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columns;
+    }
+}
@@ -1,19 +1,34 @@
 package com.configmanager.controller;
 
+import com.configmanager.audit.AuditArchiveStore;
+import com.configmanager.audit.AuditExportFormat;
+import com.configmanager.audit.AuditTailBroadcaster;
+import com.configmanager.dto.AuditLogFilterDTO;
 import com.configmanager.dto.AuditLogPageDTO;
 import com.configmanager.dto.ErrorResponseDTO;
+import com.configmanager.entity.Role;
+import com.configmanager.entity.RollupMetric;
 import com.configmanager.entity.User;
-import com.configmanager.repository.UserRepository;
+import com.configmanager.security.CurrentUserService;
+import com.configmanager.security.UserPrincipal;
 import com.configmanager.service.AuditLogService;
+import com.configmanager.service.AuditStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/audit-logs")
@@ -24,12 +39,33 @@ public class AuditLogController {
     private AuditLogService auditLogService;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private AuditArchiveStore auditArchiveStore;
+
+    @Autowired
+    private AuditStatsService auditStatsService;
+
+    @Autowired
+    private AuditTailBroadcaster auditTailBroadcaster;
 
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username).orElse(null);
+        return currentUserService.getCurrentUser();
+    }
+
+    private boolean isAdmin() {
+        UserPrincipal principal = currentUserService.getCurrentPrincipal();
+        return principal != null && principal.hasRole(Role.ADMIN);
+    }
+
+    private ResponseEntity<ErrorResponseDTO> forbidden() {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+            HttpStatus.FORBIDDEN.value(),
+            "Forbidden",
+            "Bu işlem için yetkiniz yok"
+        );
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
     /**
@@ -79,6 +115,37 @@ public class AuditLogController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * Kullanıcının logları, keyset pagination ile (COUNT ve OFFSET yok)
+     * GET /api/audit-logs/cursor?cursor=...&size=20
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getMyLogsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        try {
+            return ResponseEntity.ok(auditLogService.getLogsByUserCursor(user, cursor, Math.min(Math.max(size, 1), 200)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * Tarih aralığına göre logları getir
      * GET /api/audit-logs/date-range?startDate=2026-01-01T00:00:00&endDate=2026-01-31T23:59:59&page=0&size=20
@@ -136,6 +203,104 @@ public class AuditLogController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * Filtreye uyan tüm logları akış halinde indir; bellek kullanımı satır sayısından bağımsızdır
+     * GET /api/audit-logs/export?format=ndjson&action=LOGIN&startDate=...&endDate=...
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportLogs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        AuditExportFormat exportFormat;
+        try {
+            exportFormat = AuditExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz format: ndjson ya da csv olmalı"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        // Sadece kullanıcının kendi logları
+        AuditLogFilterDTO filter = AuditLogFilterDTO.builder()
+            .userId(user.getId())
+            .action(action)
+            .resourceType(resourceType)
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+        auditLogService.createLog(user, "EXPORT_AUDIT_LOG", "AUDIT_LOG", null, exportFormat.getExtension(),
+            "Audit log export edildi (" + exportFormat.getExtension() + ")");
+
+        StreamingResponseBody body = out -> auditLogService.exportLogs(filter, exportFormat, out);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"));
+        headers.setContentDispositionFormData("attachment", "audit-logs." + exportFormat.getExtension());
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    /**
+     * Yeni audit kayıtlarının canlı akışı (Server-Sent Events)
+     * GET /api/audit-logs/tail?action=LOGIN,DELETE_CONFIG&resourceType=CONFIGURATION&all=true
+     * all=true sadece ADMIN için tüm kullanıcıların kayıtlarını içerir.
+     */
+    @GetMapping("/tail")
+    public ResponseEntity<?> tailLogs(
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(defaultValue = "false") boolean all) {
+
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        if (all && !isAdmin()) {
+            return forbidden();
+        }
+
+        SseEmitter emitter = auditTailBroadcaster.subscribe(all ? null : user.getId(), csvSet(action), csvSet(resourceType));
+        if (emitter == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Çok fazla açık audit tail bağlantısı"
+            );
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    private static Set<String> csvSet(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
     /**
      * Son işlemler (son 10)
      * GET /api/audit-logs/recent
@@ -154,4 +319,86 @@ public class AuditLogController {
 
         return ResponseEntity.ok(auditLogService.getRecentLogs(user));
     }
+
+    /**
+     * Saklama süresi dolup arşivlenen audit log dosyaları (sadece ADMIN)
+     * GET /api/audit-logs/archives
+     */
+    @GetMapping("/archives")
+    public ResponseEntity<?> getArchives() {
+        if (!isAdmin()) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(auditArchiveStore.listArchives());
+    }
+
+    /**
+     * Arşiv dosyasında filtreli arama (sadece ADMIN)
+     * GET /api/audit-logs/archives/audit_logs_20250101_20250201.ndjson.gz?action=LOGIN&limit=100
+     */
+    @GetMapping("/archives/{fileName}")
+    public ResponseEntity<?> queryArchive(
+            @PathVariable String fileName,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (!isAdmin()) {
+            return forbidden();
+        }
+
+        try {
+            return ResponseEntity.ok(auditArchiveStore.query(
+                fileName, userId, action, status, startDate, endDate, Math.min(Math.max(limit, 1), 1000)
+            ));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    /**
+     * Rollup'lardan zaman bazlı istatistik (sadece ADMIN)
+     * GET /api/audit-logs/stats?metric=ACTION&granularity=DAY&startDate=...&endDate=...&top=10
+     * metric: ACTION, USER, FAILED_LOGIN, CONFIG_CHANGE
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(
+            @RequestParam(defaultValue = "ACTION") String metric,
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "10") int top) {
+        if (!isAdmin()) {
+            return forbidden();
+        }
+
+        RollupMetric rollupMetric;
+        ChronoUnit unit;
+        try {
+            rollupMetric = RollupMetric.valueOf(metric.toUpperCase());
+            unit = switch (granularity.toUpperCase()) {
+                case "HOUR" -> ChronoUnit.HOURS;
+                case "DAY" -> ChronoUnit.DAYS;
+                default -> throw new IllegalArgumentException(granularity);
+            };
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz metric ya da granularity"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime start = startDate != null ? startDate : end.minusDays(7);
+        return ResponseEntity.ok(auditStatsService.getStats(rollupMetric, unit, start, end, Math.min(Math.max(top, 1), 100)));
+    }
 }
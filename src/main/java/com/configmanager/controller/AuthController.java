@@ -6,19 +6,15 @@ import com.configmanager.dto.LoginResponseDTO;
 import com.configmanager.entity.User;
 import com.configmanager.mapper.DTOMapper;
 import com.configmanager.repository.UserRepository;
+import com.configmanager.security.JwtTokenService;
 import com.configmanager.service.AuditLogService;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
 import java.util.Optional;
 
 
@@ -38,11 +34,8 @@ public class AuthController {
     @Autowired
     private AuditLogService auditLogService;
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
-
-
-    private final long jwtExpirationMs = 86400000; // 1 gün
+    @Autowired
+    private JwtTokenService jwtTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDTO loginRequest) {
@@ -69,7 +62,7 @@ public class AuthController {
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
-        String token = generateJwtToken(user);
+        String token = jwtTokenService.generateToken(user);
         LoginResponseDTO response = dtoMapper.toLoginResponseDTO(user, token);
         
         // Başarılı login audit log
@@ -78,13 +71,11 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
-    private String generateJwtToken(User user) {
-        return Jwts.builder()
-                .setSubject(user.getUsername())
-                .claim("userId", user.getId())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(SignatureAlgorithm.HS512, jwtSecret.getBytes(StandardCharsets.UTF_8))
-                .compact();
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String header) {
+        if (header != null && header.startsWith("Bearer ")) {
+            jwtTokenService.revoke(header.substring(7));
+        }
+        return ResponseEntity.noContent().build();
     }
 }
@@ -3,6 +3,7 @@ package com.configmanager.controller;
 import com.configmanager.dto.BatchConfigRequestDTO;
 import com.configmanager.dto.ConfigDTO;
 import com.configmanager.dto.CreateConfigRequestDTO;
+import com.configmanager.dto.CursorPageDTO;
 import com.configmanager.dto.ErrorResponseDTO;
 import com.configmanager.entity.Configuration;
 import com.configmanager.entity.Project;
@@ -20,9 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import com.configmanager.repository.UserRepository;
+import com.configmanager.security.CurrentUserService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,7 +41,7 @@ public class ConfigurationController {
     private ProjectService projectService;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserService currentUserService;
 
     @Autowired
     private DTOMapper dtoMapper;
@@ -50,14 +49,28 @@ public class ConfigurationController {
     @Autowired
     private AuditLogService auditLogService;
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username).orElse(null);
+        return currentUserService.getCurrentUser();
     }
 
+    /**
+     * Sayfayı eski liste biçiminde döndür; devam varsa token X-Next-Cursor başlığında
+     */
+    private static ResponseEntity<List<ConfigDTO>> listResponse(CursorPageDTO<ConfigDTO> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.isHasNext()) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+
+    // Liste biçimi korunur ama en fazla MAX_PAGE_SIZE satır döner; devamı X-Next-Cursor ile istenir
     @GetMapping
-    public ResponseEntity<?> getAllConfigurations() {
+    public ResponseEntity<?> getAllConfigurations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int size) {
         User user = getCurrentUser();
         if (user == null) {
             ErrorResponseDTO error = new ErrorResponseDTO(
@@ -67,11 +80,44 @@ public class ConfigurationController {
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
-        List<Configuration> configurations = configurationService.getAllConfigurationsByUser(user);
-        List<ConfigDTO> configDTOs = configurations.stream()
-                .map(dtoMapper::toConfigDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(configDTOs);
+        try {
+            return listResponse(configurationService.getConfigPageByUser(user, cursor,
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Keyset pagination: GET /api/config/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<?> getConfigurationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        try {
+            return ResponseEntity.ok(configurationService.getConfigPageByUser(user, cursor,
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     @GetMapping("/environments")
@@ -81,7 +127,9 @@ public class ConfigurationController {
     }
 
     @GetMapping("/{environment}/{projectId}")
-    public ResponseEntity<?> getConfigurationsByEnvironment(@PathVariable String environment, @PathVariable Long projectId) {
+    public ResponseEntity<?> getConfigurationsByEnvironment(@PathVariable String environment, @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int size) {
         User user = getCurrentUser();
         if (user == null) {
             ErrorResponseDTO error = new ErrorResponseDTO(
@@ -91,12 +139,17 @@ public class ConfigurationController {
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
-        List<Configuration> configurations = configurationService.getConfigurationsByEnvironmentAndUserAndProjectID(environment,
-                user, projectId);
-        List<ConfigDTO> configDTOs = configurations.stream()
-                .map(dtoMapper::toConfigDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(configDTOs);
+        try {
+            return listResponse(configurationService.getConfigPageByEnvironmentAndUserAndProjectID(environment,
+                    user, projectId, cursor, Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     @GetMapping("/{environment}/map")
@@ -190,7 +243,8 @@ public class ConfigurationController {
         String action = isUpdate ? "UPDATE_CONFIG" : "CREATE_CONFIG";
         String description = isUpdate ? "Konfigürasyon güncellendi" : "Yeni konfigürasyon oluşturuldu";
         auditLogService.createLog(user, action, "CONFIGURATION", savedConfig.getId(), 
-            savedConfig.getKey(), description + ": " + savedConfig.getKey() + " (" + savedConfig.getEnvironment() + ")");
+            savedConfig.getKey(), description + ": " + savedConfig.getKey() + " (" + savedConfig.getEnvironment() + ")",
+            project.getId());
         
         return ResponseEntity.ok(dtoMapper.toConfigDTO(savedConfig));
     }
@@ -226,7 +280,8 @@ public class ConfigurationController {
             if (configOpt.isPresent()) {
                 Configuration config = configOpt.get();
                 auditLogService.createLog(user, "DELETE_CONFIG", "CONFIGURATION", id, 
-                    config.getKey(), "Konfigürasyon silindi: " + config.getKey() + " (" + environment + ")");
+                    config.getKey(), "Konfigürasyon silindi: " + config.getKey() + " (" + environment + ")",
+                    config.getProject().getId());
             }
             
             return ResponseEntity.noContent().build();
@@ -241,14 +296,22 @@ public class ConfigurationController {
     }
 
     @GetMapping("/{environment}/search")
-    public ResponseEntity<List<ConfigDTO>> searchConfigurations(
+    public ResponseEntity<?> searchConfigurations(
             @PathVariable String environment,
-            @RequestParam String q) {
-        List<Configuration> configurations = configurationService.searchConfigurations(environment, q);
-        List<ConfigDTO> configDTOs = configurations.stream()
-                .map(dtoMapper::toConfigDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(configDTOs);
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int size) {
+        try {
+            return listResponse(configurationService.searchConfigPage(environment, q, cursor,
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     @PostMapping("/batch")
@@ -294,6 +357,7 @@ public class ConfigurationController {
                 config.setValue(entry.getValue());
                 config.setEnvironment(batchRequest.getEnvironment());
                 config.setProject(project);
+                config.setUser(user);
             }
 
             savedConfigs.add(configurationService.saveConfiguration(config));
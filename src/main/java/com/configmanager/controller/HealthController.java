@@ -1,13 +1,24 @@
 package com.configmanager.controller;
 
+import com.configmanager.service.WarmupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class HealthController {
 
+    @Autowired
+    private WarmupService warmupService;
+
+    // Isınma bitene (ya da süre sınırı dolana) kadar 503; load balancer trafiği hazır node'lara yönlendirir
     @GetMapping("/health")
-    public String health() {
-        return "OK";
+    public ResponseEntity<String> health() {
+        if (!warmupService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
+        return ResponseEntity.ok("OK");
     }
 }
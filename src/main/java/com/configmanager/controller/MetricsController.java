@@ -0,0 +1,23 @@
+package com.configmanager.controller;
+
+import com.configmanager.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    // Prometheus scrape endpoint'i
+    @GetMapping("/actuator/prometheus")
+    public ResponseEntity<String> prometheus() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(metricsRegistry.scrape());
+    }
+}
@@ -2,27 +2,35 @@ package com.configmanager.controller;
 
 import com.configmanager.dto.ConfigDTO;
 import com.configmanager.dto.CreateProjectRequestDTO;
+import com.configmanager.dto.CursorPageDTO;
 import com.configmanager.dto.ErrorResponseDTO;
 import com.configmanager.dto.ProjectDTO;
+import com.configmanager.dto.ProjectPageDTO;
 import com.configmanager.dto.UpdateProjectRequestDTO;
 import com.configmanager.entity.Project;
 import com.configmanager.entity.User;
-import com.configmanager.entity.Configuration;
 import com.configmanager.mapper.DTOMapper;
-import com.configmanager.repository.UserRepository;
+import com.configmanager.security.CurrentUserService;
 import com.configmanager.service.AuditLogService;
 import com.configmanager.service.ProjectService;
 import com.configmanager.service.ConfigurationService;
+import com.configmanager.service.KeyNamespaceService;
+import com.configmanager.service.UsageService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -36,7 +44,7 @@ public class ProjectController {
     private ConfigurationService configurationService;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserService currentUserService;
 
     @Autowired
     private DTOMapper dtoMapper;
@@ -44,10 +52,18 @@ public class ProjectController {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private KeyNamespaceService keyNamespaceService;
+
+    @Autowired
+    private UsageService usageService;
+
+    private static final Set<String> PROJECT_SORT_FIELDS = Set.of("id", "name", "createdAt", "updatedAt");
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CONFIG_PAGE_SIZE = 500;
+
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username).orElse(null);
+        return currentUserService.getCurrentUser();
     }
 
     // 1. Kullanıcının projelerini listele
@@ -63,17 +79,80 @@ public class ProjectController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
 
-        List<Project> projects = projectService.getProjectsByUser(user);
-        List<ProjectDTO> projectDTOs = projects.stream()
-                .map(project -> {
-                    var apiKey = projectService.getApiKeyByProject(project);
-                    return dtoMapper.toProjectDTO(project, apiKey != null ? apiKey.getKey() : null);
-                })
-                .collect(Collectors.toList());
-
+        List<ProjectDTO> projectDTOs = projectService.getProjectSummaries(user);
         return ResponseEntity.ok(projectDTOs);
     }
 
+    // 1b. Sayfalı ve sıralanabilir proje listesi
+    // GET /api/projects/page?page=0&size=20&sort=name&direction=asc&includeStats=true
+    @GetMapping("/page")
+    public ResponseEntity<?> getUserProjectsPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeStats) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        if (!PROJECT_SORT_FIELDS.contains(sort)) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz sıralama alanı: " + sort
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(sortDirection, sort).and(Sort.by("id")));
+        Page<ProjectDTO> projectPage = projectService.getProjectSummaries(user, pageable, includeStats);
+
+        return ResponseEntity.ok(new ProjectPageDTO(
+            projectPage.getContent(),
+            projectPage.getNumber(),
+            projectPage.getSize(),
+            projectPage.getTotalElements(),
+            projectPage.getTotalPages(),
+            projectPage.isLast(),
+            projectPage.isFirst()
+        ));
+    }
+
+    // 1c. Keyset pagination: GET /api/projects/cursor?cursor=...&size=20
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getUserProjectsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+        try {
+            return ResponseEntity.ok(projectService.getProjectCursorPage(user, cursor,
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // 2. Yeni proje oluştur
     @PostMapping
     public ResponseEntity<?> createProject(@Valid @RequestBody CreateProjectRequestDTO request) {
@@ -200,10 +279,13 @@ public class ProjectController {
     }
 
     // 5. Projenin config'lerini listele (environment'a göre)
+    // Liste biçimi korunur ama en fazla MAX_CONFIG_PAGE_SIZE satır döner; devamı X-Next-Cursor ile istenir
     @GetMapping("/{projectId}/configs")
     public ResponseEntity<?> getProjectConfigs(
             @PathVariable Long projectId,
-            @RequestParam(required = false) String environment) {
+            @RequestParam(required = false) String environment,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MAX_CONFIG_PAGE_SIZE) int size) {
         User user = getCurrentUser();
         if (user == null) {
             ErrorResponseDTO error = new ErrorResponseDTO(
@@ -224,18 +306,63 @@ public class ProjectController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
 
-        List<Configuration> configs;
-        if (environment != null) {
-            configs = configurationService.getConfigurationsByProjectAndEnvironment(project, environment);
-        } else {
-            configs = configurationService.getConfigurationsByProject(project);
+        int limit = Math.min(Math.max(size, 1), MAX_CONFIG_PAGE_SIZE);
+        try {
+            CursorPageDTO<ConfigDTO> page = environment != null
+                    ? configurationService.getConfigPageByProjectAndEnvironment(project, environment, cursor, limit)
+                    : configurationService.getConfigPageByProject(project, cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.isHasNext()) {
+                response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getContent());
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
+    }
 
-        List<ConfigDTO> configDTOs = configs.stream()
-                .map(dtoMapper::toConfigDTO)
-                .collect(Collectors.toList());
+    // 5b. Projenin config'leri, keyset pagination ile
+    @GetMapping("/{projectId}/configs/page")
+    public ResponseEntity<?> getProjectConfigsPage(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
 
-        return ResponseEntity.ok(configDTOs);
+        Project project = projectService.getProjectByIdAndUser(projectId, user);
+        if (project == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                "Proje bulunamadı"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        try {
+            return ResponseEntity.ok(configurationService.getConfigPageByProject(project, cursor,
+                    Math.min(Math.max(size, 1), MAX_CONFIG_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Geçersiz cursor"
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     // 6. Projenin environment'larını listele
@@ -264,4 +391,109 @@ public class ProjectController {
         List<String> environments = configurationService.getEnvironmentsByProject(project);
         return ResponseEntity.ok(environments);
     }
-}
\ No newline at end of file
+
+    // 7. Projenin key namespace ağacı (prefix'in bir alt seviyesi)
+    @GetMapping("/{projectId}/keys/tree")
+    public ResponseEntity<?> getKeyTree(
+            @PathVariable Long projectId,
+            @RequestParam String environment,
+            @RequestParam(required = false) String prefix) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        Project project = projectService.getProjectByIdAndUser(projectId, user);
+        if (project == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                "Proje bulunamadı"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        return ResponseEntity.ok(keyNamespaceService.getTree(project.getId(), environment, prefix));
+    }
+
+    // 8. Prefix altındaki tüm key'ler
+    @GetMapping("/{projectId}/keys")
+    public ResponseEntity<?> getKeysByPrefix(
+            @PathVariable Long projectId,
+            @RequestParam String environment,
+            @RequestParam(required = false) String prefix) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        Project project = projectService.getProjectByIdAndUser(projectId, user);
+        if (project == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                "Proje bulunamadı"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        return ResponseEntity.ok(keyNamespaceService.findKeys(project.getId(), environment, prefix));
+    }
+
+    // Public API kullanımı (istek, byte, 304, hata); ortam ve API key kırılımıyla
+    // GET /api/projects/{id}/usage?granularity=HOUR&startDate=...&endDate=...
+    @GetMapping("/{id}/usage")
+    public ResponseEntity<?> getProjectUsage(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "HOUR") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        User user = getCurrentUser();
+        if (user == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.UNAUTHORIZED.value(),
+                "Unauthorized",
+                "Oturum geçersiz"
+            );
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        Project project = projectService.getProjectByIdAndUser(id, user);
+        if (project == null) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                "Proje bulunamadı"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        ChronoUnit unit;
+        switch (granularity.toUpperCase()) {
+            case "HOUR" -> unit = ChronoUnit.HOURS;
+            case "DAY" -> unit = ChronoUnit.DAYS;
+            default -> {
+                ErrorResponseDTO error = new ErrorResponseDTO(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "Geçersiz granularity"
+                );
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+        }
+
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime start = startDate != null ? startDate : end.minusDays(1);
+        return ResponseEntity.ok(usageService.getUsage(project.getId(), unit, start, end));
+    }
+}
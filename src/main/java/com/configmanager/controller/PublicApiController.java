@@ -1,20 +1,27 @@
 package com.configmanager.controller;
 
+import com.configmanager.cache.SingleFlight;
+import com.configmanager.dto.ApiKeyInfoDTO;
 import com.configmanager.dto.ErrorResponseDTO;
-import com.configmanager.entity.ApiKey;
-import com.configmanager.entity.Configuration;
-import com.configmanager.entity.Project;
-import com.configmanager.repository.ApiKeyRepository;
-import com.configmanager.service.ConfigurationService;
-
+import com.configmanager.jfr.ConfigFetchEvent;
+import com.configmanager.jfr.ConfigSerializationEvent;
+import com.configmanager.metrics.RequestMetricsFilter;
+import com.configmanager.service.ApiKeyService;
+import com.configmanager.service.ConfigSnapshotService;
+import com.configmanager.service.KeyNamespaceService;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,25 +31,35 @@ import java.util.Optional;
 public class PublicApiController {
 
     @Autowired
-    private ApiKeyRepository apiKeyRepository;
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private ConfigSnapshotService configSnapshotService;
+
+    @Autowired
+    private KeyNamespaceService keyNamespaceService;
 
     @Autowired
-    private ConfigurationService configurationService;
+    private ObjectMapper objectMapper;
 
     /**
      * Public endpoint to fetch configurations using API key
      * 
      * @param apiKey      The API key for authentication
      * @param environment The environment (development, staging, production, etc.)
+     * @param prefix      Optional key prefix (e.g. "payments.gateway."), resolved from the key namespace trie
      * @return Map of configuration key-value pairs
      */
     @GetMapping("/configs")
     public ResponseEntity<?> getConfigsByApiKey(
             @RequestHeader("X-API-Key") String apiKey,
-            @RequestParam String environment) {
+            @RequestParam String environment,
+            @RequestParam(required = false) String prefix,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) throws JsonProcessingException {
 
         // Validate API key
-        Optional<ApiKey> apiKeyEntity = apiKeyRepository.findByKeyAndIsActiveTrue(apiKey);
+        Optional<ApiKeyInfoDTO> apiKeyEntity = apiKeyService.findActive(apiKey);
         
         if (apiKeyEntity.isEmpty()) {
             ErrorResponseDTO error = new ErrorResponseDTO(
@@ -53,10 +70,10 @@ public class PublicApiController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
 
-        ApiKey validApiKey = apiKeyEntity.get();
-        Project project = validApiKey.getProject();
+        ApiKeyInfoDTO validApiKey = apiKeyEntity.get();
+        Long projectId = validApiKey.getProjectId();
 
-        if (project == null) {
+        if (projectId == null) {
             ErrorResponseDTO error = new ErrorResponseDTO(
                 HttpStatus.NOT_FOUND.value(),
                 "Not Found",
@@ -65,21 +82,64 @@ public class PublicApiController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
 
+        request.setAttribute(RequestMetricsFilter.PROJECT_ID_ATTRIBUTE, projectId);
+        request.setAttribute(RequestMetricsFilter.API_KEY_ID_ATTRIBUTE, validApiKey.getId());
+
         // Update last used timestamp
-        validApiKey.setLastUsed(LocalDateTime.now());
-        apiKeyRepository.save(validApiKey);
+        apiKeyService.touch(validApiKey.getId());
 
         // Fetch configurations for the project and environment
-        List<Configuration> configurations = configurationService
-                .getConfigurationsByProjectAndEnvironment(project, environment);
+        ConfigFetchEvent fetchEvent = new ConfigFetchEvent();
+        fetchEvent.begin();
+        Map<String, String> snapshot;
+        try {
+            snapshot = configSnapshotService.getSnapshot(projectId, environment);
+        } catch (SingleFlight.TimeoutExceededException e) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Konfigürasyonlar şu an yüklenemiyor, lütfen tekrar deneyin"
+            );
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+
+        Map<String, String> configMap;
+        if (prefix != null && !prefix.isEmpty()) {
+            configMap = new HashMap<>();
+            for (String key : keyNamespaceService.findKeys(projectId, environment, prefix)) {
+                String value = snapshot.get(key);
+                if (value != null || snapshot.containsKey(key)) {
+                    configMap.put(key, value);
+                }
+            }
+        } else {
+            configMap = snapshot;
+        }
+        if (fetchEvent.shouldCommit()) {
+            fetchEvent.projectId = projectId;
+            fetchEvent.environment = environment;
+            fetchEvent.rowCount = configMap.size();
+            fetchEvent.commit();
+        }
 
-        // Convert to key-value map
-        Map<String, String> configMap = new HashMap<>();
-        for (Configuration config : configurations) {
-            configMap.put(config.getKey(), config.getValue());
+        // Serialization burada yapılır; süresi ve boyutu ayrı bir JFR event'i olarak görünür
+        ConfigSerializationEvent serializationEvent = new ConfigSerializationEvent();
+        serializationEvent.begin();
+        byte[] body = objectMapper.writeValueAsBytes(configMap);
+        if (serializationEvent.shouldCommit()) {
+            serializationEvent.projectId = projectId;
+            serializationEvent.environment = environment;
+            serializationEvent.rowCount = configMap.size();
+            serializationEvent.bytes = body.length;
+            serializationEvent.commit();
         }
 
-        return ResponseEntity.ok(configMap);
+        // Aynı içerik için istemci gövdeyi tekrar indirmez
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
@@ -89,8 +149,8 @@ public class PublicApiController {
      * @return Status of the API key
      */
     @GetMapping("/validate")
-    public ResponseEntity<?> validateApiKey(@RequestHeader("X-API-Key") String apiKey) {
-        Optional<ApiKey> apiKeyEntity = apiKeyRepository.findByKeyAndIsActiveTrue(apiKey);
+    public ResponseEntity<?> validateApiKey(@RequestHeader("X-API-Key") String apiKey, HttpServletRequest request) {
+        Optional<ApiKeyInfoDTO> apiKeyEntity = apiKeyService.findActive(apiKey);
 
         if (apiKeyEntity.isEmpty()) {
             ErrorResponseDTO error = new ErrorResponseDTO(
@@ -103,11 +163,34 @@ public class PublicApiController {
 
         Map<String, Object> response = new HashMap<>();
 
-        ApiKey validApiKey = apiKeyEntity.get();
+        ApiKeyInfoDTO validApiKey = apiKeyEntity.get();
+        if (validApiKey.getProjectId() != null) {
+            request.setAttribute(RequestMetricsFilter.PROJECT_ID_ATTRIBUTE, validApiKey.getProjectId());
+            request.setAttribute(RequestMetricsFilter.API_KEY_ID_ATTRIBUTE, validApiKey.getId());
+        }
         response.put("valid", true);
-        response.put("projectName", validApiKey.getProject().getName());
+        response.put("projectName", validApiKey.getProjectName());
         response.put("keyName", validApiKey.getName());
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * If-None-Match başlığı ETag'lerden birini (ya da *) içeriyor mu; zayıf karşılaştırma
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,17 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ApiKeyInfoDTO {
+    private Long id;
+    private String name;
+    private Long projectId;
+    private String projectName;
+}
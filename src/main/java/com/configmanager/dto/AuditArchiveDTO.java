@@ -0,0 +1,19 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class AuditArchiveDTO {
+    private String fileName;
+    private LocalDateTime from; // null: en eski kayıttan itibaren
+    private LocalDateTime to;
+    private long sizeBytes;
+}
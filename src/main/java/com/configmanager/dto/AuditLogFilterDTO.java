@@ -0,0 +1,23 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit log filtreleri; null alanlar filtrelenmez
+ */
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class AuditLogFilterDTO {
+    private Long userId;
+    private String action;
+    private String resourceType;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
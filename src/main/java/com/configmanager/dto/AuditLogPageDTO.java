@@ -13,8 +13,9 @@ public class AuditLogPageDTO {
     private List<AuditLogDTO> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private long totalElements; // Cache'lenmiş sayım, bilinmiyorsa -1
+    private int totalPages; // Bilinmiyorsa -1
     private boolean last;
     private boolean first;
+    private boolean hasNext;
 }
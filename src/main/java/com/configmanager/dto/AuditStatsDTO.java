@@ -0,0 +1,23 @@
+package com.configmanager.dto;
+
+import com.configmanager.entity.RollupMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class AuditStatsDTO {
+    private RollupMetric metric;
+    private String granularity; // HOUR, DAY
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private List<AuditStatsTotalDTO> totals; // Aralık toplamı, en büyükten küçüğe
+    private List<AuditStatsPointDTO> series; // totals'taki boyutlar için zaman serisi
+}
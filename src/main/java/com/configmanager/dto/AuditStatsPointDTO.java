@@ -0,0 +1,18 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class AuditStatsPointDTO {
+    private LocalDateTime bucketStart;
+    private String dimension;
+    private long count;
+}
@@ -0,0 +1,15 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class AuditStatsTotalDTO {
+    private String dimension;
+    private long count;
+}
@@ -0,0 +1,20 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    // Liste dönen eski endpoint'lerde devam token'ı bu başlıkta döner
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<T> content;
+    private String nextCursor; // Son sayfada null
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class KeyNamespaceDTO {
+    private Long projectId;
+    private String environment;
+    private String prefix;
+    private int keyCount;
+    private List<KeyNamespaceNodeDTO> children;
+}
@@ -0,0 +1,18 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class KeyNamespaceNodeDTO {
+    private String segment;
+    private String path; // Tam prefix, örn. "payments.gateway"
+    private int keyCount; // Bu segment altındaki toplam key sayısı
+    private boolean key; // Segment'in kendisi de bir key mi
+    private boolean hasChildren;
+}
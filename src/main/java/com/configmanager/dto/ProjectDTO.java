@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
 
@@ -26,4 +27,16 @@ public class ProjectDTO {
     
     private String apiKey; // Project'e ait API key
 
+    private List<ProjectEnvironmentStatsDTO> environments; // Sadece sayfalı listede, istenirse dolu
+
+    // Repository'deki JPQL constructor projection için
+    public ProjectDTO(Long id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt,
+            String apiKey) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.apiKey = apiKey;
+    }
 }
\ No newline at end of file
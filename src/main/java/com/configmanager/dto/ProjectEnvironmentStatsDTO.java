@@ -0,0 +1,19 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ProjectEnvironmentStatsDTO {
+    private Long projectId;
+    private String environment;
+    private Long configCount;
+    private LocalDateTime lastModified;
+}
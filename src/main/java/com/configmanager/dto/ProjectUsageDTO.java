@@ -0,0 +1,24 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class ProjectUsageDTO {
+    private Long projectId;
+    private String granularity; // HOUR, DAY
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private UsageCountsDTO total;
+    private List<UsageCountsDTO> environments; // En çok istekten aza
+    private List<UsageCountsDTO> apiKeys; // En çok istekten aza
+    private List<UsagePointDTO> series;
+}
@@ -0,0 +1,18 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class UsageCountsDTO {
+    private String dimension; // environment ya da API key id; toplamda null
+    private long requests;
+    private long bytes;
+    private long notModified;
+    private long errors;
+}
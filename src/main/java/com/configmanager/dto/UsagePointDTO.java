@@ -0,0 +1,20 @@
+package com.configmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class UsagePointDTO {
+    private LocalDateTime bucketStart;
+    private long requests;
+    private long bytes;
+    private long notModified;
+    private long errors;
+}
@@ -0,0 +1,51 @@
+package com.configmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saatlik public API kullanımı; (API key, project, environment) başına.
+ * UsageMeter tarafından bellekteki sayaçlardan artımlı olarak güncellenir.
+ */
+@Entity
+@Table(name = "api_usage",
+    uniqueConstraints = @UniqueConstraint(name = "uk_api_usage_bucket_scope",
+        columnNames = {"bucket_start", "project_id", "environment", "api_key_id"}),
+    indexes = @Index(name = "idx_api_usage_project_bucket", columnList = "project_id, bucket_start"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart; // Saat başı
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "environment", nullable = false)
+    private String environment; // /validate gibi ortamsız isteklerde ""
+
+    @Column(name = "api_key_id", nullable = false)
+    private Long apiKeyId;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount;
+
+    @Column(name = "byte_count", nullable = false)
+    private Long byteCount;
+
+    @Column(name = "not_modified_count", nullable = false)
+    private Long notModifiedCount;
+
+    @Column(name = "error_count", nullable = false)
+    private Long errorCount;
+}
@@ -0,0 +1,26 @@
+package com.configmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Audit loglarındaki IP adresi sözlüğü; audit_logs.ip_address_id buraya referans verir
+ */
+@Entity
+@Table(name = "audit_ip_addresses", uniqueConstraints =
+    @UniqueConstraint(name = "uk_audit_ip_address_value", columnNames = "`value`"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditIpAddress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // VALUE H2'de anahtar kelime; tırnaklı isim PostgreSQL'de de aynı kolondur
+    @Column(name = "`value`", nullable = false, length = 64)
+    private String value;
+}
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Table(name = "audit_logs", indexes = {
     @Index(name = "idx_created_at", columnList = "created_at"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_action", columnList = "action")
+    @Index(name = "idx_action", columnList = "action"),
+    @Index(name = "idx_user_created_at_id", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_user_action_created_at", columnList = "user_id, action, created_at"),
+    @Index(name = "idx_user_resource_type_created_at", columnList = "user_id, resource_type, created_at")
 })
 @Data
 @NoArgsConstructor
@@ -45,10 +48,16 @@ public class AuditLog {
     private String description;
     
     @Column(name = "ip_address")
-    private String ipAddress;
+    private String ipAddress; // Eski kayıtlar; yeni kayıtlarda ip_address_id kullanılır
     
     @Column(name = "user_agent", columnDefinition = "TEXT")
-    private String userAgent;
+    private String userAgent; // Eski kayıtlar; yeni kayıtlarda user_agent_id kullanılır
+    
+    @Column(name = "ip_address_id")
+    private Long ipAddressId; // audit_ip_addresses
+    
+    @Column(name = "user_agent_id")
+    private Long userAgentId; // audit_user_agents
     
     @Column(name = "status")
     private String status; // SUCCESS, FAILURE
@@ -0,0 +1,40 @@
+package com.configmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saatlik audit sayaçları. AuditRollupAggregator tarafından artımlı olarak güncellenir;
+ * dashboard istatistikleri ham audit_logs yerine buradan okunur.
+ */
+@Entity
+@Table(name = "audit_rollups",
+    uniqueConstraints = @UniqueConstraint(name = "uk_rollup_metric_bucket_dimension",
+        columnNames = {"metric", "bucket_start", "dimension"}),
+    indexes = @Index(name = "idx_rollup_metric_bucket", columnList = "metric, bucket_start"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 32)
+    private RollupMetric metric;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart; // Saat başı
+
+    @Column(name = "dimension", nullable = false)
+    private String dimension; // action, username, projectId; boyutsuz metriklerde ""
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+}
@@ -0,0 +1,29 @@
+package com.configmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Audit loglarındaki user agent sözlüğü; audit_logs.user_agent_id buraya referans verir
+ */
+@Entity
+@Table(name = "audit_user_agents", uniqueConstraints =
+    @UniqueConstraint(name = "uk_audit_user_agent_hash", columnNames = "hash"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditUserAgent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hash", nullable = false, length = 64)
+    private String hash; // value'nun SHA-256 hex'i
+
+    // VALUE H2'de anahtar kelime; tırnaklı isim PostgreSQL'de de aynı kolondur
+    @Column(name = "`value`", nullable = false, columnDefinition = "TEXT")
+    private String value;
+}
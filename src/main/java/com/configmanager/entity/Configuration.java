@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "configurations", uniqueConstraints = @UniqueConstraint(columnNames = { "key_name", "environment",
-        "project_id" }))
+        "project_id" }), indexes = {
+        // Keyset pagination: (environment, key_name, id) sırasıyla seek
+        @Index(name = "idx_config_user_env_key_id", columnList = "user_id, environment, key_name, id"),
+        @Index(name = "idx_config_project_env_key_id", columnList = "project_id, environment, key_name, id")
+})
 public class Configuration {
 
     @Id
@@ -0,0 +1,11 @@
+package com.configmanager.entity;
+
+/**
+ * Audit rollup metrikleri ve boyutları
+ */
+public enum RollupMetric {
+    ACTION,          // action başına işlem sayısı
+    USER,            // kullanıcı (username) başına işlem sayısı
+    FAILED_LOGIN,    // başarısız giriş denemeleri
+    CONFIG_CHANGE    // proje başına config oluşturma/güncelleme/silme
+}
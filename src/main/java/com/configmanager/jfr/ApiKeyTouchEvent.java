@@ -0,0 +1,20 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * API key'in lastUsed alanının güncellenmesi
+ */
+@Name("com.configmanager.ApiKeyTouch")
+@Label("API Key lastUsed Write")
+@Category({"Config Manager", "Public API"})
+@StackTrace(false)
+public class ApiKeyTouchEvent extends Event {
+
+    @Label("API Key Id")
+    public long apiKeyId;
+}
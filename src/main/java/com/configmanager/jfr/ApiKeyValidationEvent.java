@@ -0,0 +1,23 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * API key doğrulaması ve sonucu (bloom, cache ya da DB)
+ */
+@Name("com.configmanager.ApiKeyValidation")
+@Label("API Key Validation")
+@Category({"Config Manager", "Public API"})
+@StackTrace(false)
+public class ApiKeyValidationEvent extends Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Project Id")
+    public long projectId;
+}
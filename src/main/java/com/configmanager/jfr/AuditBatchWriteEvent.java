@@ -0,0 +1,20 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Audit kayıtlarının tek transaction'da yazılan bir batch'i
+ */
+@Name("com.configmanager.AuditBatchWrite")
+@Label("Audit Batch Write")
+@Category({"Config Manager", "Audit"})
+@StackTrace(false)
+public class AuditBatchWriteEvent extends Event {
+
+    @Label("Batch Size")
+    public int batchSize;
+}
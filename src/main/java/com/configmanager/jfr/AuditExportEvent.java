@@ -0,0 +1,28 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Audit log dışa aktarımının akışı
+ */
+@Name("com.configmanager.AuditExport")
+@Label("Audit Export")
+@Category({"Config Manager", "Audit"})
+@StackTrace(false)
+public class AuditExportEvent extends Event {
+
+    @Label("Format")
+    public String format;
+
+    @Label("Row Count")
+    public long rowCount;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
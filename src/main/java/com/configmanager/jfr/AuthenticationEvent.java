@@ -0,0 +1,23 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT filtresinde token çözümü
+ */
+@Name("com.configmanager.Authentication")
+@Label("JWT Authentication")
+@Category({"Config Manager", "Security"})
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Token Present")
+    public boolean tokenPresent;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+}
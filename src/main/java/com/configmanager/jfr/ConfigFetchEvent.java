@@ -0,0 +1,26 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Kapsamın snapshot'ının alınması ve prefix filtresi
+ */
+@Name("com.configmanager.ConfigFetch")
+@Label("Config Fetch")
+@Category({"Config Manager", "Public API"})
+@StackTrace(false)
+public class ConfigFetchEvent extends Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("Environment")
+    public String environment;
+
+    @Label("Row Count")
+    public int rowCount;
+}
@@ -0,0 +1,31 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Key/value haritasının JSON'a çevrilmesi
+ */
+@Name("com.configmanager.ConfigSerialization")
+@Label("Config Serialization")
+@Category({"Config Manager", "Public API"})
+@StackTrace(false)
+public class ConfigSerializationEvent extends Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("Environment")
+    public String environment;
+
+    @Label("Row Count")
+    public int rowCount;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,31 @@
+package com.configmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Bir /api/public isteğinin tamamı; filtre zincirinden yanıtın yazılmasına kadar
+ */
+@Name("com.configmanager.PublicFetch")
+@Label("Public Config Fetch")
+@Category({"Config Manager", "Public API"})
+@StackTrace(false)
+public class PublicFetchEvent extends Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("Environment")
+    public String environment;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
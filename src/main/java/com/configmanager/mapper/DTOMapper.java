@@ -1,5 +1,7 @@
 package com.configmanager.mapper;
 
+import com.configmanager.audit.AuditEntry;
+import com.configmanager.dto.AuditLogDTO;
 import com.configmanager.dto.ConfigDTO;
 import com.configmanager.dto.CreateConfigRequestDTO;
 import com.configmanager.dto.LoginResponseDTO;
@@ -66,4 +68,20 @@ public class DTOMapper {
                 .apiKey(apiKey)
                 .build();
     }
-}
\ No newline at end of file
+
+    public AuditLogDTO toAuditLogDTO(AuditEntry entry) {
+        return AuditLogDTO.builder()
+                .id(entry.id())
+                .username(entry.username())
+                .action(entry.action())
+                .resourceType(entry.resourceType())
+                .resourceId(entry.resourceId())
+                .resourceName(entry.resourceName())
+                .description(entry.description())
+                .ipAddress(entry.ipAddress())
+                .status(entry.status())
+                .errorMessage(entry.errorMessage())
+                .createdAt(entry.createdAt())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.configmanager.metrics;
+
+import com.configmanager.audit.AuditLogWriter;
+import com.configmanager.audit.AuditTailBroadcaster;
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.service.ApiKeyService;
+import com.configmanager.service.ConfigSnapshotService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bağlantı havuzu, cache, audit kuyruğu ve invalidation metriklerini registry'e bağlar.
+ * Kaynak bean'ler scrape anında çözülür; böylece lazy bean'ler sadece metrik için erken oluşturulmaz.
+ */
+@Component
+@Lazy(false) // Hiçbir bean'e inject edilmiyor
+public class ApplicationMetrics {
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private ObjectProvider<DataSource> dataSource;
+
+    @Autowired
+    private ObjectProvider<AuditLogWriter> auditLogWriter;
+
+    @Autowired
+    private ObjectProvider<AuditTailBroadcaster> auditTailBroadcaster;
+
+    @Autowired
+    private ObjectProvider<InvalidationBus> invalidationBus;
+
+    @Autowired
+    private ObjectProvider<ApiKeyService> apiKeyService;
+
+    @Autowired
+    private ObjectProvider<ConfigSnapshotService> configSnapshotService;
+
+    @PostConstruct
+    void bind() {
+        bindPool();
+        bindAudit();
+
+        metricsRegistry.functionCounter("invalidation_messages_total", "Invalidation bus mesajları",
+                () -> invalidationBus.getObject().getPublishedCount(), "direction", "published");
+        metricsRegistry.functionCounter("invalidation_messages_total", "Invalidation bus mesajları",
+                () -> invalidationBus.getObject().getReceivedCount(), "direction", "received");
+        metricsRegistry.functionCounter("invalidation_resets_total", "Kaçırılan mesaj nedeniyle cache sıfırlamaları",
+                () -> invalidationBus.getObject().getResetCount());
+
+        metricsRegistry.functionCounter("config_snapshot_loads_total", "Snapshot yüklemeleri",
+                () -> configSnapshotService.getObject().getLoadCount(), "result", "loaded");
+        metricsRegistry.functionCounter("config_snapshot_loads_total", "Snapshot yüklemeleri",
+                () -> configSnapshotService.getObject().getCoalescedCount(), "result", "coalesced");
+
+        metricsRegistry.functionCounter("api_key_checks_total", "API key doğrulamaları",
+                () -> apiKeyService.getObject().getFilterRejectionCount(), "result", "bloom_rejected");
+        metricsRegistry.functionCounter("api_key_checks_total", "API key doğrulamaları",
+                () -> apiKeyService.getObject().getCachedRejectionCount(), "result", "cache_rejected");
+        metricsRegistry.functionCounter("api_key_checks_total", "API key doğrulamaları",
+                () -> apiKeyService.getObject().getLookupCount(), "result", "db_lookup");
+
+        // Cache'ler lazy bean'lerde oluştuğu için her scrape'te yenileri kaydedilir
+        metricsRegistry.addCollector(this::bindCaches);
+    }
+
+    private void bindPool() {
+        gaugePool("hikari_connections_active", "Kullanımdaki bağlantılar", HikariPoolMXBean::getActiveConnections);
+        gaugePool("hikari_connections_idle", "Boştaki bağlantılar", HikariPoolMXBean::getIdleConnections);
+        gaugePool("hikari_connections_total", "Havuzdaki bağlantılar", HikariPoolMXBean::getTotalConnections);
+        gaugePool("hikari_connections_pending", "Bağlantı bekleyen thread'ler",
+                HikariPoolMXBean::getThreadsAwaitingConnection);
+        metricsRegistry.gauge("hikari_connections_max", "Havuzun azami boyutu",
+                () -> {
+                    HikariDataSource hikari = hikari();
+                    return hikari != null ? hikari.getMaximumPoolSize() : Double.NaN;
+                });
+    }
+
+    private void bindAudit() {
+        metricsRegistry.gauge("audit_queue_depth", "Yazılmayı bekleyen audit kayıtları",
+                () -> auditLogWriter.getObject().getQueueDepth());
+        metricsRegistry.gauge("audit_queue_capacity", "Audit kuyruğu kapasitesi",
+                () -> auditLogWriter.getObject().getCapacity());
+        bindAuditCounter("written", AuditLogWriter::getWrittenCount);
+        bindAuditCounter("dropped", AuditLogWriter::getDroppedCount);
+        bindAuditCounter("spilled", AuditLogWriter::getSpilledCount);
+        bindAuditCounter("failed", AuditLogWriter::getFailedCount);
+        bindAuditCounter("dead_lettered", AuditLogWriter::getDeadLetteredCount);
+        metricsRegistry.gauge("audit_tail_subscribers", "Bağlı audit tail istemcileri",
+                () -> auditTailBroadcaster.getObject().getSubscriberCount());
+    }
+
+    private void bindAuditCounter(String result, Function<AuditLogWriter, Long> value) {
+        metricsRegistry.functionCounter("audit_entries_total", "Audit yazıcısının işlediği kayıtlar",
+                () -> value.apply(auditLogWriter.getObject()), "result", result);
+    }
+
+    private void bindCaches() {
+        for (LruCache<?, ?> cache : LruCache.instances()) {
+            String name = cache.getName();
+            metricsRegistry.functionCounter("cache_gets_total", "Cache okumaları", cache::hitCount,
+                    "cache", name, "result", "hit");
+            metricsRegistry.functionCounter("cache_gets_total", "Cache okumaları", cache::missCount,
+                    "cache", name, "result", "miss");
+            metricsRegistry.functionCounter("cache_evictions_total", "Boyut nedeniyle atılan girdiler",
+                    cache::evictionCount, "cache", name);
+            metricsRegistry.gauge("cache_size", "Cache'teki girdi sayısı", cache::size, "cache", name);
+        }
+    }
+
+    private void gaugePool(String name, String help, ToIntFunction<HikariPoolMXBean> value) {
+        metricsRegistry.gauge(name, help, () -> {
+            HikariDataSource hikari = hikari();
+            HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+            return pool != null ? value.applyAsInt(pool) : Double.NaN;
+        });
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            DataSource source = dataSource.getObject();
+            return source.isWrapperFor(HikariDataSource.class) ? source.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
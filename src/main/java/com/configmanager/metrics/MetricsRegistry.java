@@ -0,0 +1,294 @@
+package com.configmanager.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Prometheus metin formatında dışa verilen bellek içi metrikler.
+ * Etiketler "ad, değer, ad, değer" sırasıyla verilir. Bir metrik için seri sayısı sınırı aşılınca
+ * yeni etiket kombinasyonları tek bir "_other" serisinde toplanır; böylece proje/key gibi
+ * etiketler kardinaliteyi patlatamaz.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    public static final String OVERFLOW = "_other";
+
+    // Saniye cinsinden histogram sınırları
+    private static final double[] LATENCY_BUCKETS = {
+            0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        private final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Artan sayaç
+     */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * Gecikme histogramı; süreler nanosaniye olarak kaydedilir, saniye olarak yazılır
+     */
+    public static final class Timer {
+        private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS.length];
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Timer() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos) {
+            double seconds = nanos / 1e9;
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                if (seconds <= LATENCY_BUCKETS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(seconds);
+        }
+
+        public void record(long amount, TimeUnit unit) {
+            record(unit.toNanos(amount));
+        }
+
+        public long count() {
+            return count.sum();
+        }
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final List<String> labelNames;
+        private final Map<List<String>, Object> series = new ConcurrentHashMap<>();
+        private volatile boolean overflowLogged;
+
+        private Family(String name, String help, Type type, List<String> labelNames) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelNames = labelNames;
+        }
+    }
+
+    @Value("${app.metrics.max-series-per-metric:500}")
+    private int maxSeriesPerMetric;
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+    private final List<Runnable> collectors = new CopyOnWriteArrayList<>();
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) series(name, help, Type.COUNTER, labels, Counter::new);
+    }
+
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) series(name, help, Type.HISTOGRAM, labels, Timer::new);
+    }
+
+    /**
+     * Değeri scrape anında okunan gauge; aynı etiketlerle tekrar kaydedilirse öncekinin yerini alır
+     */
+    public void gauge(String name, String help, Supplier<? extends Number> value, String... labels) {
+        register(name, help, Type.GAUGE, labels, value);
+    }
+
+    /**
+     * Değeri scrape anında okunan, başka bir bileşenin tuttuğu artan sayaç
+     */
+    public void functionCounter(String name, String help, Supplier<? extends Number> value, String... labels) {
+        register(name, help, Type.COUNTER, labels, value);
+    }
+
+    /**
+     * Her scrape'ten önce çalışır; sonradan oluşan kaynakları (örn. lazy bean'lerdeki cache'ler) kaydetmek için
+     */
+    public void addCollector(Runnable collector) {
+        collectors.add(collector);
+    }
+
+    public String scrape() {
+        for (Runnable collector : collectors) {
+            try {
+                collector.run();
+            } catch (RuntimeException e) {
+                logger.debug("Metrik toplayıcı başarısız", e);
+            }
+        }
+
+        StringBuilder out = new StringBuilder(8192);
+        for (Family family : families.values()) {
+            out.append("# HELP ").append(family.name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ').append(family.type.text).append('\n');
+            for (Map.Entry<List<String>, Object> entry : family.series.entrySet()) {
+                writeSeries(out, family, entry.getKey(), entry.getValue());
+            }
+        }
+        return out.toString();
+    }
+
+    private Object series(String name, String help, Type type, String[] labels, Supplier<Object> factory) {
+        Family family = family(name, help, type, labels);
+        List<String> values = labelValues(labels);
+        Object existing = family.series.get(values);
+        if (existing != null) {
+            return existing;
+        }
+        if (family.series.size() >= maxSeriesPerMetric) {
+            values = overflow(family);
+        }
+        return family.series.computeIfAbsent(values, key -> factory.get());
+    }
+
+    private void register(String name, String help, Type type, String[] labels, Supplier<? extends Number> value) {
+        Family family = family(name, help, type, labels);
+        List<String> values = labelValues(labels);
+        if (!family.series.containsKey(values) && family.series.size() >= maxSeriesPerMetric) {
+            overflow(family);
+            return;
+        }
+        family.series.put(values, value);
+    }
+
+    private Family family(String name, String help, Type type, String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Etiketler ad/değer çiftleri olmalı: " + name);
+        }
+        Family family = families.computeIfAbsent(name, key -> {
+            List<String> names = new ArrayList<>(labels.length / 2);
+            for (int i = 0; i < labels.length; i += 2) {
+                names.add(labels[i]);
+            }
+            return new Family(name, help, type, List.copyOf(names));
+        });
+        if (family.type != type || family.labelNames.size() != labels.length / 2) {
+            throw new IllegalArgumentException("Metrik farklı tip ya da etiketlerle kayıtlı: " + name);
+        }
+        return family;
+    }
+
+    private List<String> overflow(Family family) {
+        if (!family.overflowLogged) {
+            family.overflowLogged = true;
+            logger.warn("{} metriği {} seri sınırına ulaştı, yeni etiketler '{}' altında toplanıyor",
+                    family.name, maxSeriesPerMetric, OVERFLOW);
+        }
+        String[] values = new String[family.labelNames.size()];
+        Arrays.fill(values, OVERFLOW);
+        return List.of(values);
+    }
+
+    private static List<String> labelValues(String[] labels) {
+        String[] values = new String[labels.length / 2];
+        for (int i = 1; i < labels.length; i += 2) {
+            values[i / 2] = labels[i] != null ? labels[i] : "";
+        }
+        return List.of(values);
+    }
+
+    private static void writeSeries(StringBuilder out, Family family, List<String> values, Object metric) {
+        if (metric instanceof Timer timer) {
+            long cumulative = 0;
+            for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+                cumulative += timer.buckets[i].sum();
+                writeSample(out, family.name + "_bucket", family.labelNames, values,
+                        "le", Double.toString(LATENCY_BUCKETS[i]), cumulative);
+            }
+            long count = timer.count.sum();
+            writeSample(out, family.name + "_bucket", family.labelNames, values, "le", "+Inf", count);
+            writeSample(out, family.name + "_sum", family.labelNames, values, null, null, timer.sum.sum());
+            writeSample(out, family.name + "_count", family.labelNames, values, null, null, count);
+        } else if (metric instanceof Counter counter) {
+            writeSample(out, family.name, family.labelNames, values, null, null, counter.get());
+        } else if (metric instanceof Supplier<?> supplier) {
+            Object value = supplier.get();
+            writeSample(out, family.name, family.labelNames, values, null, null,
+                    value instanceof Number number ? number : Double.NaN);
+        }
+    }
+
+    private static void writeSample(StringBuilder out, String name, List<String> labelNames, List<String> values,
+            String extraName, String extraValue, Number value) {
+        out.append(name);
+        if (!labelNames.isEmpty() || extraName != null) {
+            out.append('{');
+            for (int i = 0; i < labelNames.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendLabel(out, labelNames.get(i), values.get(i));
+            }
+            if (extraName != null) {
+                if (!labelNames.isEmpty()) {
+                    out.append(',');
+                }
+                appendLabel(out, extraName, extraValue);
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value instanceof Double || value instanceof Float) {
+            double d = value.doubleValue();
+            out.append(Double.isNaN(d) ? "NaN" : Double.isInfinite(d) ? (d > 0 ? "+Inf" : "-Inf") : Double.toString(d));
+        } else {
+            out.append(value.longValue());
+        }
+        out.append('\n');
+    }
+
+    private static void appendLabel(StringBuilder out, String name, String value) {
+        out.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,88 @@
+package com.configmanager.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread'e bağlı SQL sayacı. İstek filtresi her istek için {@link #begin()} çağırır; datasource proxy'si
+ * çalıştırılan her statement'ı ve süresini o anki sayaca ekler. Testler de aynı API ile bir kod bloğunun
+ * kaç sorgu çalıştırdığını doğrulayabilir.
+ */
+public final class QueryCounter {
+
+    // N+1 tespiti için tutulan farklı SQL sayısı sınırı
+    private static final int MAX_TRACKED_STATEMENTS = 200;
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Bir istek (ya da test bloğu) boyunca çalışan statement'lar
+     */
+    public static final class Stats {
+        private int count;
+        private long nanos;
+        private final Map<String, Integer> statements = new HashMap<>();
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * En az threshold kez tekrarlanan SQL'ler; N+1 örüntüsünün işareti
+         */
+        public Map<String, Integer> repeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            statements.entrySet().stream()
+                    .filter(e -> e.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+            return repeated;
+        }
+
+        private void record(String sql, long elapsedNanos) {
+            count++;
+            nanos += elapsedNanos;
+            if (sql != null && (statements.size() < MAX_TRACKED_STATEMENTS || statements.containsKey(sql))) {
+                statements.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public static Stats begin() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Aktif sayaç; begin çağrılmadıysa null
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    public static Stats end() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.configmanager.metrics;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource'u, çalıştırılan statement'ları {@link QueryCounter}'a bildiren bir proxy ile sarar.
+ * Hibernate, JdbcTemplate ve elle açılan bağlantıların hepsi aynı noktadan geçtiği için tümü sayılır.
+ * Proxy hedefin tüm arayüzlerini uygular; unwrap/close gibi çağrılar doğrudan havuza iletilir.
+ */
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(bean, new DataSourceHandler(bean));
+        }
+        return bean;
+    }
+
+    private static Object proxy(Object target, InvocationHandler handler) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClassAsSet(target.getClass()).stream()
+                .filter(type -> Modifier.isPublic(type.getModifiers()))
+                .toArray(Class<?>[]::new);
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, handler);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // Kimlik proxy üzerinden korunur; havuzlar ve Hibernate bağlantıları map'lerde tutabilir
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(Object target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(connection, new ConnectionHandler(connection));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall SQL'i ilk argümanda taşır; createStatement'ta yok
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return proxy(statement, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String sql) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return QueryCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            }
+            long started = System.nanoTime();
+            try {
+                return QueryCountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            } finally {
+                String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                QueryCounter.record(statementSql, System.nanoTime() - started);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.configmanager.metrics;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tüm Spring Data repository çağrılarını (repository, metod, sonuç) etiketleriyle ölçer.
+ * Listener repository oluşturulmadan önce factory'e eklenmelidir; bu yüzden BeanPostProcessor.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    // BeanPostProcessor'lar erken oluşturulur; registry ilk çağrıda çözülür
+    @Autowired
+    private ObjectProvider<MetricsRegistry> metricsRegistry;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            RepositoryMethodInvocationListener listener = invocation -> metricsRegistry.getObject()
+                    .timer("repository_invocations_seconds", "Repository metod süresi",
+                            "repository", invocation.getRepositoryInterface().getSimpleName(),
+                            "method", invocation.getMethod().getName(),
+                            "state", invocation.getResult() != null
+                                    ? invocation.getResult().getState().name() : "UNKNOWN")
+                    .record(invocation.getDuration(TimeUnit.NANOSECONDS));
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,189 @@
+package com.configmanager.metrics;
+
+import com.configmanager.jfr.PublicFetchEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Her endpoint için gecikme histogramı (method, URI şablonu, status) ve public API'de
+ * proje başına gönderilen byte sayısı. URI şablonu kullanıldığı için path değişkenleri seri üretmez.
+ * İstek başına çalışan SQL sayısı ve süresi de sayılır; bütçe aşımı ve tekrarlanan SQL (N+1) loglanır.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    /**
+     * Public endpoint'ler, çözülen projeyi bu request attribute'una yazar
+     */
+    public static final String PROJECT_ID_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".projectId";
+
+    /**
+     * Doğrulanan API key; kullanım sayaçları bu attribute varsa tutulur
+     */
+    public static final String API_KEY_ID_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".apiKeyId";
+
+    private static final String PUBLIC_API_PREFIX = "/api/public/";
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private UsageMeter usageMeter;
+
+    @Value("${app.metrics.query-budget:50}")
+    private int queryBudget;
+
+    @Value("${app.metrics.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    // Geliştirme ortamı için: X-Query-Count ve X-Query-Time-Ms başlıkları
+    @Value("${app.metrics.query-header.enabled:false}")
+    private boolean queryHeaderEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean publicApi = request.getRequestURI().startsWith(PUBLIC_API_PREFIX);
+        CountingResponseWrapper counting = publicApi ? new CountingResponseWrapper(response) : null;
+        HttpServletResponse target = counting != null ? counting : response;
+        PublicFetchEvent fetchEvent = publicApi ? new PublicFetchEvent() : null;
+        if (fetchEvent != null) {
+            fetchEvent.begin();
+        }
+        QueryCounter.Stats queries = QueryCounter.begin();
+        long started = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, queryHeaderEnabled ? new QueryHeaderResponseWrapper(target, queries) : target);
+            status = response.getStatus();
+        } finally {
+            QueryCounter.end();
+            String uri = uriTemplate(request, status);
+            // Streaming/SSE yanıtlarında süre bağlantı ömrünü ölçer, endpoint gecikmesini değil
+            if (!request.isAsyncStarted()) {
+                metricsRegistry.timer("http_server_requests_seconds", "HTTP istek süresi",
+                        "method", request.getMethod(),
+                        "uri", uri,
+                        "status", Integer.toString(status))
+                        .record(System.nanoTime() - started);
+            }
+            recordQueries(request.getMethod(), uri, queries);
+            if (counting != null) {
+                Object projectId = request.getAttribute(PROJECT_ID_ATTRIBUTE);
+                long bytes = counting.getBytesWritten();
+                metricsRegistry.counter("public_fetch_bytes_total", "Public API ile gönderilen byte",
+                        "project_id", projectId != null ? projectId.toString() : "none")
+                        .add(bytes);
+                if (request.getAttribute(API_KEY_ID_ATTRIBUTE) instanceof Long apiKeyId && projectId instanceof Long id) {
+                    usageMeter.record(apiKeyId, id, request.getParameter("environment"), bytes, status);
+                }
+                if (fetchEvent.shouldCommit()) {
+                    fetchEvent.projectId = projectId instanceof Long id ? id : 0L;
+                    fetchEvent.environment = request.getParameter("environment");
+                    fetchEvent.status = status;
+                    fetchEvent.bytes = bytes;
+                    fetchEvent.commit();
+                }
+            }
+        }
+    }
+
+    private void recordQueries(String method, String uri, QueryCounter.Stats queries) {
+        metricsRegistry.counter("http_server_queries_total", "İsteklerin çalıştırdığı SQL statement'ları",
+                "method", method, "uri", uri).add(queries.getCount());
+        metricsRegistry.counter("http_server_query_nanoseconds_total", "İsteklerin SQL'de geçirdiği süre",
+                "method", method, "uri", uri).add(queries.getNanos());
+
+        if (queries.getCount() > queryBudget) {
+            // GenericFilterBean'in logger'ı (commons-logging) placeholder desteklemez
+            logger.warn(String.format("%s %s isteği %d SQL çalıştırdı (bütçe %d), toplam %d ms",
+                    method, uri, queries.getCount(), queryBudget, queries.getMillis()));
+        }
+        queries.repeatedStatements(nPlusOneThreshold).forEach((sql, count) ->
+                logger.warn(String.format("Olası N+1: %s %s isteğinde aynı SQL %d kez çalıştı: %s",
+                        method, uri, count, sql)));
+    }
+
+    /**
+     * Sorgu başlıkları yanıt commit edilmeden, gövde yazılmaya başlarken eklenir
+     */
+    private static final class QueryHeaderResponseWrapper extends HttpServletResponseWrapper {
+        private final QueryCounter.Stats queries;
+        private boolean headersWritten;
+
+        private QueryHeaderResponseWrapper(HttpServletResponse response, QueryCounter.Stats queries) {
+            super(response);
+            this.queries = queries;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        private void writeHeaders() {
+            if (!headersWritten && !isCommitted()) {
+                headersWritten = true;
+                setHeader("X-Query-Count", Integer.toString(queries.getCount()));
+                setHeader("X-Query-Time-Ms", Long.toString(queries.getMillis()));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private static String uriTemplate(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == HttpServletResponse.SC_NOT_FOUND) {
+            return "NOT_FOUND";
+        }
+        return status == HttpServletResponse.SC_UNAUTHORIZED || status == HttpServletResponse.SC_FORBIDDEN
+                ? "UNAUTHORIZED" : "UNKNOWN";
+    }
+}
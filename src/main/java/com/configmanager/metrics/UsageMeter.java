@@ -0,0 +1,252 @@
+package com.configmanager.metrics;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Public API kullanımı için kilitsiz sayaçlar; (saat, API key, project, environment) başına.
+ * İstek yolunda sadece LongAdder artırılır, DB'ye hiç gidilmez. Sayaçlar periyodik olarak
+ * sumThenReset ile okunup api_usage tablosunda isteğin geldiği saatin bucket'ına eklenir.
+ * Saati geçmiş kapsamlar iki flush boyunca boş kalınca map'ten çıkarılır ve bir sonraki flush'ta
+ * son kez okunur; referansı elinde tutan bir istek thread'inin artırımı böylece kaybolmaz.
+ */
+@Component
+public class UsageMeter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsageMeter.class);
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO api_usage (bucket_start, project_id, environment, api_key_id, request_count, byte_count, "
+            + "not_modified_count, error_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (bucket_start, project_id, environment, api_key_id) DO UPDATE SET "
+            + "request_count = api_usage.request_count + EXCLUDED.request_count, "
+            + "byte_count = api_usage.byte_count + EXCLUDED.byte_count, "
+            + "not_modified_count = api_usage.not_modified_count + EXCLUDED.not_modified_count, "
+            + "error_count = api_usage.error_count + EXCLUDED.error_count";
+    // ON CONFLICT DO UPDATE desteklemeyen veritabanları (geliştirme/yük testi H2) için
+    private static final String UPDATE_SQL =
+            "UPDATE api_usage SET request_count = request_count + ?, byte_count = byte_count + ?, "
+            + "not_modified_count = not_modified_count + ?, error_count = error_count + ? "
+            + "WHERE bucket_start = ? AND project_id = ? AND environment = ? AND api_key_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO api_usage (bucket_start, project_id, environment, api_key_id, request_count, byte_count, "
+            + "not_modified_count, error_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Environment istemciden geldiği için sayaç sayısı sınırlı tutulur
+    public static final String OVERFLOW_ENVIRONMENT = "_other";
+
+    public record UsageKey(LocalDateTime bucketStart, Long apiKeyId, Long projectId, String environment) {
+    }
+
+    private record Bucket(LocalDateTime start, long startMillis, long endMillis) {
+    }
+
+    /**
+     * Bir kapsamın sayaçları
+     */
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private int idleFlushes; // Sadece flush thread'i erişir
+
+        private long[] drain() {
+            return new long[] { requests.sumThenReset(), bytes.sumThenReset(),
+                    notModified.sumThenReset(), errors.sumThenReset() };
+        }
+
+        private long[] peek() {
+            return new long[] { requests.sum(), bytes.sum(), notModified.sum(), errors.sum() };
+        }
+
+        private void add(long[] values) {
+            requests.add(values[0]);
+            bytes.add(values[1]);
+            notModified.add(values[2]);
+            errors.add(values[3]);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.usage.max-keys:10000}")
+    private int maxKeys;
+
+    private final Map<UsageKey, Counters> counters = new ConcurrentHashMap<>();
+    private Map<UsageKey, Counters> retired = new HashMap<>();
+    private volatile Bucket bucket = bucketAt(System.currentTimeMillis());
+
+    private volatile Boolean postgres;
+
+    public void record(Long apiKeyId, Long projectId, String environment, long bytes, int status) {
+        LocalDateTime hour = currentBucket();
+        UsageKey key = new UsageKey(hour, apiKeyId, projectId, environment != null ? environment : "");
+        Counters scope = counters.get(key);
+        if (scope == null) {
+            if (counters.size() >= maxKeys) {
+                key = new UsageKey(hour, apiKeyId, projectId, OVERFLOW_ENVIRONMENT);
+            }
+            scope = counters.computeIfAbsent(key, k -> new Counters());
+        }
+        scope.requests.increment();
+        scope.bytes.add(bytes);
+        if (status == 304) {
+            scope.notModified.increment();
+        } else if (status >= 400) {
+            scope.errors.increment();
+        }
+    }
+
+    /**
+     * Projenin henüz tabloya yazılmamış sayaçları; key bucket'ı taşır, değerler [requests, bytes, notModified, errors]
+     */
+    public Map<UsageKey, long[]> pending(Long projectId) {
+        Map<UsageKey, long[]> result = new HashMap<>();
+        counters.forEach((key, scope) -> {
+            if (key.projectId().equals(projectId)) {
+                long[] values = scope.peek();
+                if (values[0] > 0) {
+                    result.put(key, values);
+                }
+            }
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.usage.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        LocalDateTime current = currentBucket();
+        List<UsageKey> keys = new ArrayList<>();
+        List<long[]> values = new ArrayList<>();
+        // Önceki flush'ta çıkarılanların son okuması
+        Map<UsageKey, Counters> draining = retired;
+        retired = new HashMap<>();
+        draining.forEach((key, scope) -> collect(key, scope.drain(), keys, values));
+        counters.forEach((key, scope) -> {
+            long[] drained = scope.drain();
+            if (drained[0] > 0) {
+                scope.idleFlushes = 0;
+                collect(key, drained, keys, values);
+            } else if (key.bucketStart().isBefore(current) && ++scope.idleFlushes >= 2) {
+                // Saati bitmiş ve iki flush boyunca boş: yeni artırım gelmez, gelirse sonraki flush okur
+                if (counters.remove(key, scope)) {
+                    retired.put(key, scope);
+                }
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> upsert(keys, values));
+        } catch (RuntimeException e) {
+            logger.warn("API kullanım sayaçları yazılamadı, bir sonraki denemede tekrar eklenecek: {}", e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                counters.computeIfAbsent(keys.get(i), k -> new Counters()).add(values.get(i));
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private static void collect(UsageKey key, long[] drained, List<UsageKey> keys, List<long[]> values) {
+        if (drained[0] > 0) {
+            keys.add(key);
+            values.add(drained);
+        }
+    }
+
+    private void upsert(List<UsageKey> keys, List<long[]> values) {
+        if (isPostgres()) {
+            // Tek ifadede atomik; eşzamanlı flush'lar uk_api_usage_bucket_scope üzerinde birleşir
+            List<Object[]> rows = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                UsageKey key = keys.get(i);
+                long[] v = values.get(i);
+                rows.add(new Object[] { Timestamp.valueOf(key.bucketStart()), key.projectId(), key.environment(), key.apiKeyId(), v[0], v[1], v[2], v[3] });
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            return;
+        }
+
+        List<Object[]> updates = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            UsageKey key = keys.get(i);
+            long[] v = values.get(i);
+            updates.add(new Object[] { v[0], v[1], v[2], v[3], Timestamp.valueOf(key.bucketStart()), key.projectId(), key.environment(), key.apiKeyId() });
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (updated[i] == 0) {
+                UsageKey key = keys.get(i);
+                long[] v = values.get(i);
+                inserts.add(new Object[] { Timestamp.valueOf(key.bucketStart()), key.projectId(), key.environment(), key.apiKeyId(), v[0], v[1], v[2], v[3] });
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * İsteğin saat bucket'ı; saat değişene kadar aynı nesne kullanılır
+     */
+    private LocalDateTime currentBucket() {
+        long now = System.currentTimeMillis();
+        Bucket current = bucket;
+        if (now >= current.endMillis() || now < current.startMillis()) {
+            current = bucketAt(now);
+            bucket = current;
+        }
+        return current.start();
+    }
+
+    private static Bucket bucketAt(long millis) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime start = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone).truncatedTo(ChronoUnit.HOURS);
+        return new Bucket(start, start.atZone(zone).toInstant().toEpochMilli(),
+                start.plusHours(1).atZone(zone).toInstant().toEpochMilli());
+    }
+}
@@ -1,10 +1,17 @@
 package com.configmanager.repository;
 
+import com.configmanager.dto.ApiKeyInfoDTO;
 import com.configmanager.entity.ApiKey;
 import com.configmanager.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +27,21 @@ public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
     boolean existsByKey(String key);
     
     Optional<ApiKey> findByProject(Project project);
+
+    @Query("SELECT a.key FROM ApiKey a WHERE a.isActive = true")
+    List<String> findActiveKeys();
+
+    @Query("SELECT new com.configmanager.dto.ApiKeyInfoDTO(a.id, a.name, p.id, p.name) " +
+           "FROM ApiKey a LEFT JOIN a.project p WHERE a.key = :key AND a.isActive = true")
+    Optional<ApiKeyInfoDTO> findActiveKeyInfo(@Param("key") String key);
+
+    // Son kullanılanlar önce: key, id, name, projectId, projectName
+    @Query("SELECT a.key, a.id, a.name, p.id, p.name FROM ApiKey a JOIN a.project p " +
+           "WHERE a.isActive = true ORDER BY a.lastUsed DESC NULLS LAST")
+    List<Object[]> findRecentlyUsedActiveKeys(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ApiKey a SET a.lastUsed = :lastUsed WHERE a.id = :id")
+    int updateLastUsed(@Param("id") Long id, @Param("lastUsed") LocalDateTime lastUsed);
 }
@@ -0,0 +1,15 @@
+package com.configmanager.repository;
+
+import com.configmanager.entity.ApiUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApiUsageRepository extends JpaRepository<ApiUsage, Long> {
+
+    List<ApiUsage> findByProjectIdAndBucketStartGreaterThanEqualAndBucketStartLessThan(Long projectId,
+            LocalDateTime start, LocalDateTime end);
+}
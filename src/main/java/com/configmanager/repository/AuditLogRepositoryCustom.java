@@ -0,0 +1,20 @@
+package com.configmanager.repository;
+
+import com.configmanager.dto.AuditLogFilterDTO;
+import com.configmanager.entity.AuditLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.Stream;
+
+/**
+ * Filtreye göre dinamik oluşturulan audit log sorguları
+ */
+public interface AuditLogRepositoryCustom {
+
+    // createdAt, id azalan sırada; COUNT sorgusu yok
+    Slice<AuditLog> findSliceByFilter(AuditLogFilterDTO filter, Pageable pageable);
+
+    // Export için ileri yönlü cursor; satırlar fetch size'lık parçalarla okunur, entity'ler read-only yüklenir
+    Stream<AuditLog> streamByFilter(AuditLogFilterDTO filter);
+}
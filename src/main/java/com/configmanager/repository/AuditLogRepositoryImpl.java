@@ -0,0 +1,59 @@
+package com.configmanager.repository;
+
+import com.configmanager.dto.AuditLogFilterDTO;
+import com.configmanager.entity.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AuditLogRepositoryImpl implements AuditLogRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<AuditLog> findSliceByFilter(AuditLogFilterDTO filter, Pageable pageable) {
+        // Bir fazla satır çekilerek sonraki sayfanın varlığı anlaşılır
+        List<AuditLog> rows = entityManager.createQuery(buildQuery(filter))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<AuditLog> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<AuditLog> streamByFilter(AuditLogFilterDTO filter) {
+        return entityManager.createQuery(buildQuery(filter))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<AuditLog> buildQuery(AuditLogFilterDTO filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> root = query.from(AuditLog.class);
+        query.select(root).orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        Predicate where = AuditLogSpecifications.matching(filter).toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,42 @@
+package com.configmanager.repository;
+
+import com.configmanager.dto.AuditLogFilterDTO;
+import com.configmanager.entity.AuditLog;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Audit log filtreleri için Specification. Sadece verilen filtreler WHERE'e eklenir;
+ * böylece planner (user_id, action, created_at) gibi birleşik index'leri doğrudan kullanabilir.
+ */
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    public static Specification<AuditLog> matching(AuditLogFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(5);
+            if (filter.getUserId() != null) {
+                predicates.add(cb.equal(root.get("user").get("id"), filter.getUserId()));
+            }
+            if (filter.getAction() != null) {
+                predicates.add(cb.equal(root.get("action"), filter.getAction()));
+            }
+            if (filter.getResourceType() != null) {
+                predicates.add(cb.equal(root.get("resourceType"), filter.getResourceType()));
+            }
+            if (filter.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getStartDate()));
+            }
+            if (filter.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.getEndDate()));
+            }
+            // Boş and() "where 1=1" üretir; null ile WHERE hiç yazılmaz
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
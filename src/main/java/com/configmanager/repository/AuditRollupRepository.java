@@ -0,0 +1,56 @@
+package com.configmanager.repository;
+
+import com.configmanager.entity.AuditRollup;
+import com.configmanager.entity.RollupMetric;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AuditRollupRepository extends JpaRepository<AuditRollup, Long> {
+
+    // En yüksek toplamlı boyutlar: (dimension, toplam); limit Pageable ile verilir
+    @Query("SELECT r.dimension, SUM(r.eventCount) FROM AuditRollup r " +
+           "WHERE r.metric = :metric AND r.bucketStart >= :start AND r.bucketStart < :end " +
+           "GROUP BY r.dimension ORDER BY SUM(r.eventCount) DESC, r.dimension")
+    List<Object[]> findTopTotals(@Param("metric") RollupMetric metric,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end,
+                                 Pageable limit);
+
+    // Verilen boyutların toplamları: (dimension, toplam)
+    @Query("SELECT r.dimension, SUM(r.eventCount) FROM AuditRollup r " +
+           "WHERE r.metric = :metric AND r.bucketStart >= :start AND r.bucketStart < :end " +
+           "AND r.dimension IN :dimensions GROUP BY r.dimension")
+    List<Object[]> findTotals(@Param("metric") RollupMetric metric,
+                              @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end,
+                              @Param("dimensions") Collection<String> dimensions);
+
+    // Saatlik seri: (bucket_start, dimension, toplam)
+    @Query("SELECT r.bucketStart, r.dimension, SUM(r.eventCount) FROM AuditRollup r " +
+           "WHERE r.metric = :metric AND r.bucketStart >= :start AND r.bucketStart < :end " +
+           "AND r.dimension IN :dimensions GROUP BY r.bucketStart, r.dimension ORDER BY r.bucketStart, r.dimension")
+    List<Object[]> findHourlySeries(@Param("metric") RollupMetric metric,
+                                    @Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end,
+                                    @Param("dimensions") Collection<String> dimensions);
+
+    // Günlük seri: (gün başı, dimension, toplam); DATE_TRUNC hem PostgreSQL hem H2'de var
+    @Query(value = "SELECT DATE_TRUNC('day', bucket_start) AS bucket, dimension, SUM(event_count) " +
+                   "FROM audit_rollups " +
+                   "WHERE metric = :metric AND bucket_start >= :start AND bucket_start < :end " +
+                   "AND dimension IN (:dimensions) " +
+                   "GROUP BY DATE_TRUNC('day', bucket_start), dimension ORDER BY bucket, dimension",
+           nativeQuery = true)
+    List<Object[]> findDailySeries(@Param("metric") String metric,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end,
+                                   @Param("dimensions") Collection<String> dimensions);
+}
@@ -1,19 +1,28 @@
 package com.configmanager.repository;
 
+import com.configmanager.dto.ConfigDTO;
+import com.configmanager.dto.ProjectEnvironmentStatsDTO;
 import com.configmanager.entity.Configuration;
 import com.configmanager.entity.Project;
 import com.configmanager.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ConfigurationRepository extends JpaRepository<Configuration, Long> {
 
+    // Listeleme için sadece ConfigDTO kolonları; entity hydrate edilmez, dirty-checking snapshot'ı tutulmaz
+    String CONFIG_DTO_SELECT = "SELECT new com.configmanager.dto.ConfigDTO(c.id, c.key, c.value, c.description, " +
+            "c.environment, c.isEncrypted, c.isSensitive, c.createdAt, c.updatedAt, p.id, p.name) " +
+            "FROM Configuration c JOIN c.project p ";
+
     List<Configuration> findByEnvironment(String environment);
 
     List<Configuration> findByEnvironmentOrderByKeyAsc(String environment);
@@ -48,6 +57,82 @@ public interface ConfigurationRepository extends JpaRepository<Configuration, Lo
 
     List<Configuration> findByProjectAndEnvironment(Project project, String environment);
 
+    List<Configuration> findByProjectAndEnvironmentAndKeyIn(Project project, String environment, Collection<String> keys);
+
+    @Query("SELECT c.key FROM Configuration c WHERE c.project.id = :projectId AND c.environment = :environment")
+    List<String> findKeysByProjectIdAndEnvironment(@Param("projectId") Long projectId,
+            @Param("environment") String environment);
+
+    @Query("SELECT c.key, c.value FROM Configuration c WHERE c.project.id = :projectId AND c.environment = :environment")
+    List<Object[]> findKeyValuesByProjectIdAndEnvironment(@Param("projectId") Long projectId,
+            @Param("environment") String environment);
+
     @Query("SELECT DISTINCT c.environment FROM Configuration c WHERE c.project = :project")
     List<String> findDistinctEnvironmentsByProject(@Param("project") Project project);
+
+    @Query("SELECT DISTINCT c.project.id, c.environment FROM Configuration c WHERE c.project.id IN :projectIds")
+    List<Object[]> findDistinctEnvironmentsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT new com.configmanager.dto.ProjectEnvironmentStatsDTO(c.project.id, c.environment, COUNT(c), MAX(c.updatedAt)) " +
+           "FROM Configuration c WHERE c.project.id IN :projectIds " +
+           "GROUP BY c.project.id, c.environment ORDER BY c.environment")
+    List<ProjectEnvironmentStatsDTO> findEnvironmentStatsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Tüm kapsamı tek seferde okur; sadece projeksiyon benchmark'ı için, listeleme endpoint'leri sayfalı sorguları kullanır
+    @Query(CONFIG_DTO_SELECT + "WHERE p.id = :projectId AND c.environment = :environment ORDER BY c.key")
+    List<ConfigDTO> findConfigDTOsByProjectIdAndEnvironment(@Param("projectId") Long projectId,
+            @Param("environment") String environment);
+
+    // Keyset pagination: (environment, key, id) sırasında cursor'dan sonraki satırlar, limit Pageable ile
+    @Query(CONFIG_DTO_SELECT + "WHERE c.user.id = :userId ORDER BY c.environment, c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByUserId(@Param("userId") Long userId, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE c.user.id = :userId AND (c.environment > :environment OR " +
+           "(c.environment = :environment AND (c.key > :key OR (c.key = :key AND c.id > :id)))) " +
+           "ORDER BY c.environment, c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByUserIdAfter(@Param("userId") Long userId,
+            @Param("environment") String environment, @Param("key") String key, @Param("id") Long id,
+            Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE p.id = :projectId ORDER BY c.environment, c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByProjectId(@Param("projectId") Long projectId, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE p.id = :projectId AND (c.environment > :environment OR " +
+           "(c.environment = :environment AND (c.key > :key OR (c.key = :key AND c.id > :id)))) " +
+           "ORDER BY c.environment, c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByProjectIdAfter(@Param("projectId") Long projectId,
+            @Param("environment") String environment, @Param("key") String key, @Param("id") Long id,
+            Pageable limit);
+
+    // Tek environment'lı listeler: (key, id) sırasında cursor'dan sonraki satırlar
+    @Query(CONFIG_DTO_SELECT + "WHERE c.environment = :environment AND c.user.id = :userId AND p.id = :projectId " +
+           "ORDER BY c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByEnvironmentAndUserIdAndProjectId(@Param("environment") String environment,
+            @Param("userId") Long userId, @Param("projectId") Long projectId, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE c.environment = :environment AND c.user.id = :userId AND p.id = :projectId " +
+           "AND (c.key > :key OR (c.key = :key AND c.id > :id)) ORDER BY c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByEnvironmentAndUserIdAndProjectIdAfter(@Param("environment") String environment,
+            @Param("userId") Long userId, @Param("projectId") Long projectId,
+            @Param("key") String key, @Param("id") Long id, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE p.id = :projectId AND c.environment = :environment ORDER BY c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByProjectIdAndEnvironment(@Param("projectId") Long projectId,
+            @Param("environment") String environment, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE p.id = :projectId AND c.environment = :environment " +
+           "AND (c.key > :key OR (c.key = :key AND c.id > :id)) ORDER BY c.key, c.id")
+    List<ConfigDTO> findConfigDTOPageByProjectIdAndEnvironmentAfter(@Param("projectId") Long projectId,
+            @Param("environment") String environment, @Param("key") String key, @Param("id") Long id,
+            Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE c.environment = :environment AND c.key LIKE %:searchTerm% ORDER BY c.key, c.id")
+    List<ConfigDTO> searchConfigDTOPage(@Param("environment") String environment,
+            @Param("searchTerm") String searchTerm, Pageable limit);
+
+    @Query(CONFIG_DTO_SELECT + "WHERE c.environment = :environment AND c.key LIKE %:searchTerm% " +
+           "AND (c.key > :key OR (c.key = :key AND c.id > :id)) ORDER BY c.key, c.id")
+    List<ConfigDTO> searchConfigDTOPageAfter(@Param("environment") String environment,
+            @Param("searchTerm") String searchTerm, @Param("key") String key, @Param("id") Long id,
+            Pageable limit);
 }
@@ -1,12 +1,17 @@
 package com.configmanager.repository;
 
+import com.configmanager.dto.ProjectDTO;
 import com.configmanager.entity.Project;
 import com.configmanager.entity.User;
 
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +24,29 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     boolean existsById(Long id);
     List<Project> findByUser(User user);
     Optional<Project> findByIdAndUser(Long id, User user);
+
+    // Proje + aktif API key tek sorguda (proje başına findByProject yerine)
+    @Query("SELECT new com.configmanager.dto.ProjectDTO(p.id, p.name, p.description, p.createdAt, p.updatedAt, k.key) " +
+           "FROM Project p LEFT JOIN ApiKey k ON k.project = p AND k.isActive = true " +
+           "WHERE p.user.id = :userId ORDER BY p.id")
+    List<ProjectDTO> findProjectSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT new com.configmanager.dto.ProjectDTO(p.id, p.name, p.description, p.createdAt, p.updatedAt, k.key) " +
+                   "FROM Project p LEFT JOIN ApiKey k ON k.project = p AND k.isActive = true " +
+                   "WHERE p.user.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId")
+    Page<ProjectDTO> findProjectSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Keyset pagination: (name, id) sırasında cursor'dan sonraki projeler
+    @Query("SELECT new com.configmanager.dto.ProjectDTO(p.id, p.name, p.description, p.createdAt, p.updatedAt, k.key) " +
+           "FROM Project p LEFT JOIN ApiKey k ON k.project = p AND k.isActive = true " +
+           "WHERE p.user.id = :userId ORDER BY p.name, p.id")
+    List<ProjectDTO> findProjectSummaryPageByUserId(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT new com.configmanager.dto.ProjectDTO(p.id, p.name, p.description, p.createdAt, p.updatedAt, k.key) " +
+           "FROM Project p LEFT JOIN ApiKey k ON k.project = p AND k.isActive = true " +
+           "WHERE p.user.id = :userId AND (p.name > :name OR (p.name = :name AND p.id > :id)) " +
+           "ORDER BY p.name, p.id")
+    List<ProjectDTO> findProjectSummaryPageByUserIdAfter(@Param("userId") Long userId, @Param("name") String name,
+            @Param("id") Long id, Pageable limit);
 }
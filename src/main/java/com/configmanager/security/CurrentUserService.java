@@ -0,0 +1,52 @@
+package com.configmanager.security;
+
+import com.configmanager.entity.User;
+import com.configmanager.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * İstek sahibini SecurityContext'teki principal'dan çözer
+ */
+@Component
+public class CurrentUserService {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public UserPrincipal getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    /**
+     * Mevcut kullanıcının entity'si; token'da userId varsa cache'ten, yoksa username ile DB'den
+     */
+    public User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.getId() != null) {
+            User user = userCache.getById(principal.getId());
+            // Kullanıcı silinmiş ya da id başka bir kullanıcıya geçmişse oturum geçersiz
+            if (user == null || !user.getUsername().equals(principal.getUsername())) {
+                return null;
+            }
+            return user;
+        }
+
+        // userId claim'i olmayan eski token'lar
+        return userRepository.findByUsername(authentication.getName()).orElse(null);
+    }
+}
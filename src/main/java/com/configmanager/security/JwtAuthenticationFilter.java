@@ -1,8 +1,7 @@
 package com.configmanager.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import org.springframework.beans.factory.annotation.Value;
+import com.configmanager.jfr.AuthenticationEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -12,35 +11,31 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    @Autowired
+    private JwtTokenService jwtTokenService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
         String header = request.getHeader("Authorization");
         String token = null;
-        String username = null;
+        UserPrincipal principal = null;
         if (header != null && header.startsWith("Bearer ")) {
             token = header.substring(7);
-            try {
-                Claims claims = Jwts.parser()
-                        .setSigningKey(jwtSecret.getBytes(StandardCharsets.UTF_8))
-                        .parseClaimsJws(token)
-                        .getBody();
-                username = claims.getSubject();
-            } catch (Exception e) {
-                // Token geçersiz
-            }
+            principal = jwtTokenService.resolve(token);
         }
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        event.tokenPresent = token != null;
+        event.authenticated = principal != null;
+        event.commit();
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(username, null, null);
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -0,0 +1,183 @@
+package com.configmanager.security;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.entity.Role;
+import com.configmanager.entity.User;
+import com.configmanager.util.Digests;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT üretimi ve doğrulaması. İmza anahtarı ve parser başlangıçta bir kez oluşturulur;
+ * doğrulanmış token'lar SHA-256 özetleriyle, token'ın exp zamanına kadar cache'lenir.
+ */
+@Component
+public class JwtTokenService {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${app.jwt.expiration:86400000}")
+    private long jwtExpirationMs;
+
+    @Value("${app.jwt.cache.size:10000}")
+    private int cacheSize;
+
+    @Value("${app.jwt.revocation.enabled:false}")
+    private boolean revocationEnabled;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private LruCache<String, UserPrincipal> verifiedTokens;
+
+    // Token özeti -> token'ın exp zamanı (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new LruCache<>("jwt", cacheSize);
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                if (message.type() == InvalidationType.TOKEN_REVOKED && revocationEnabled) {
+                    int separator = message.key().lastIndexOf(':');
+                    String digest = message.key().substring(0, separator);
+                    revokedTokens.put(digest, Long.parseLong(message.key().substring(separator + 1)));
+                    verifiedTokens.remove(digest);
+                }
+            }
+
+            @Override
+            public void onReset() {
+                // İptal listesi sadece bellekte; kaçırılan iptaller geri alınamaz, doğrulanmış token cache'i yine de atılır
+                verifiedTokens.clear();
+            }
+        });
+    }
+
+    public String generateToken(User user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim("userId", user.getId())
+                .claim("roles", user.getRoles().stream().map(Enum::name).toList())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Token'ı doğrula ve principal'a çevir; geçersiz, süresi dolmuş veya iptal edilmişse null
+     */
+    public UserPrincipal resolve(String token) {
+        String digest = Digests.sha256Hex(token);
+        if (revocationEnabled && revokedTokens.containsKey(digest)) {
+            return null;
+        }
+
+        UserPrincipal cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        if (claims == null) {
+            return null;
+        }
+        UserPrincipal principal = toPrincipal(claims);
+        if (principal != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, principal, claims.getExpiration().getTime());
+        }
+        return principal;
+    }
+
+    /**
+     * Token'ı exp zamanına kadar iptal et (logout)
+     */
+    public void revoke(String token) {
+        if (!revocationEnabled) {
+            return;
+        }
+        Claims claims = parse(token);
+        if (claims == null || claims.getExpiration() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+        String digest = Digests.sha256Hex(token);
+        revokedTokens.put(digest, claims.getExpiration().getTime());
+        verifiedTokens.remove(digest);
+        invalidationBus.publish(InvalidationType.TOKEN_REVOKED, digest + ":" + claims.getExpiration().getTime());
+    }
+
+    public boolean isRevocationEnabled() {
+        return revocationEnabled;
+    }
+
+    public LruCache<String, UserPrincipal> getCache() {
+        return verifiedTokens;
+    }
+
+    private Claims parse(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            // Token geçersiz
+            return null;
+        }
+    }
+
+    private UserPrincipal toPrincipal(Claims claims) {
+        String username = claims.getSubject();
+        if (username == null) {
+            return null;
+        }
+        Object userId = claims.get("userId");
+        return new UserPrincipal(
+                userId instanceof Number number ? number.longValue() : null,
+                username,
+                toRoles(claims.get("roles")));
+    }
+
+    private Set<Role> toRoles(Object claim) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (claim instanceof Collection<?> values) {
+            for (Object value : values) {
+                try {
+                    roles.add(Role.valueOf(String.valueOf(value)));
+                } catch (IllegalArgumentException e) {
+                    // Bilinmeyen rol, yok say
+                }
+            }
+        }
+        return roles;
+    }
+}
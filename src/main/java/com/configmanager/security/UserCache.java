@@ -0,0 +1,81 @@
+package com.configmanager.security;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.entity.User;
+import com.configmanager.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Kimliği doğrulanmış kullanıcıların User entity'leri için küçük bir cache.
+ * Entity'ler detached tutulur; sorgu parametresi veya ilişki referansı olarak kullanılabilir.
+ * JPA üzerinden yapılan güncelleme ve silmeler {@link UserCacheEvictionListener} ile kaydı atar.
+ */
+@Component
+public class UserCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.security.user-cache.size:1000}")
+    private int maxSize;
+
+    @Value("${app.security.user-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    private LruCache<Long, User> users;
+
+    @PostConstruct
+    void init() {
+        users = new LruCache<>("users", maxSize, ttlMillis);
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                if (message.type() == InvalidationType.USER) {
+                    users.remove(Long.valueOf(message.key()));
+                }
+            }
+
+            @Override
+            public void onReset() {
+                users.clear();
+            }
+        });
+    }
+
+    public User getById(Long userId) {
+        return users.get(userId, id -> userRepository.findById(id).orElse(null));
+    }
+
+    /**
+     * Kullanıcı değiştiğinde çağrılır. Commit'ten önce eski satırı tekrar cache'leyen bir okuma olabileceği için
+     * kayıt commit sonrası bir kez daha atılır; diğer node'lar commit sonrası bus üzerinden aynı kaydı atar.
+     */
+    public void evict(Long userId) {
+        users.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.remove(userId);
+                }
+            });
+        }
+        invalidationBus.publish(InvalidationType.USER, userId.toString());
+    }
+
+    public LruCache<Long, User> getCache() {
+        return users;
+    }
+}
@@ -0,0 +1,53 @@
+package com.configmanager.security;
+
+import com.configmanager.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JWT claim'lerinden oluşturulan, DB'ye gitmeden kim olduğumuzu söyleyen principal
+ */
+public class UserPrincipal implements Principal, Serializable {
+
+    private final Long id;
+    private final String username;
+    private final Set<Role> roles;
+
+    public UserPrincipal(Long id, String username, Set<Role> roles) {
+        this.id = id;
+        this.username = username;
+        this.roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    public Long getId() { return id; }
+
+    public String getUsername() { return username; }
+
+    public Set<Role> getRoles() { return roles; }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
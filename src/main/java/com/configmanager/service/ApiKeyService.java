@@ -0,0 +1,253 @@
+package com.configmanager.service;
+
+import com.configmanager.cache.BloomFilter;
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.dto.ApiKeyInfoDTO;
+import com.configmanager.jfr.ApiKeyTouchEvent;
+import com.configmanager.jfr.ApiKeyValidationEvent;
+import com.configmanager.repository.ApiKeyRepository;
+import com.configmanager.util.Digests;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Public API key doğrulaması. Aktif key'lerin SHA-256 özetleri bir Bloom filter'da tutulur;
+ * filtrede kesin olarak olmayan key'ler DB'ye gitmeden reddedilir. Filtrenin false-positive'leri
+ * ve pasif key'ler için reddedilen özetler kısa süreli bir cache'te tutulur.
+ * Bloom filter'dan silme yapılamadığı için pasifleşen key'lerin bitleri periyodik yeniden kurulumda temizlenir.
+ * Geçerli key'lerin özetleri de kısa TTL ile cache'lenir; pasifleştirilen bir key en fazla TTL kadar kabul edilebilir.
+ */
+@Service
+@Lazy(false) // Filtre uygulama açılırken kurulmalı, ilk istekte değil
+public class ApiKeyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiKeyService.class);
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.api-key.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.api-key.bloom.min-capacity:10000}")
+    private long minCapacity;
+
+    private final LruCache<String, Boolean> rejected;
+    private final LruCache<String, ApiKeyInfoDTO> active;
+    private final Object filterLock = new Object();
+    private volatile BloomFilter filter;
+    // Yeniden kurulum sürerken eklenen özetler; yeni filtreye de aktarılır
+    private List<String> pendingDigests;
+
+    private final LongAdder filterRejections = new LongAdder();
+    private final LongAdder cachedRejections = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+
+    public ApiKeyService(@Value("${app.api-key.rejected-cache.size:10000}") int rejectedCacheSize,
+            @Value("${app.api-key.rejected-cache.ttl-ms:60000}") long rejectedTtlMillis,
+            @Value("${app.api-key.cache.size:10000}") int activeCacheSize,
+            @Value("${app.api-key.cache.ttl-ms:60000}") long activeTtlMillis) {
+        this.rejected = new LruCache<>("rejectedApiKeys", rejectedCacheSize, rejectedTtlMillis);
+        this.active = new LruCache<>("apiKeys", activeCacheSize, activeTtlMillis);
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                switch (message.type()) {
+                    case API_KEY -> addDigest(message.key());
+                    case PROJECT -> evictProject(Long.valueOf(message.key()));
+                    default -> {
+                    }
+                }
+            }
+
+            @Override
+            public void onReset() {
+                rejected.clear();
+                active.clear();
+                rebuild();
+            }
+        });
+    }
+
+    /**
+     * Aktif key'i bul; filtre ya da cache'ler kesin cevap veriyorsa DB'ye gidilmez
+     */
+    public Optional<ApiKeyInfoDTO> findActive(String key) {
+        ApiKeyValidationEvent event = new ApiKeyValidationEvent();
+        event.begin();
+        Optional<ApiKeyInfoDTO> result = lookup(key, event);
+        if (event.shouldCommit()) {
+            event.projectId = result.map(ApiKeyInfoDTO::getProjectId).orElse(0L);
+            event.commit();
+        }
+        return result;
+    }
+
+    private Optional<ApiKeyInfoDTO> lookup(String key, ApiKeyValidationEvent event) {
+        if (key == null || key.isEmpty()) {
+            event.outcome = "missing";
+            return Optional.empty();
+        }
+        String digest = Digests.sha256Hex(key);
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(digest)) {
+            filterRejections.increment();
+            event.outcome = "bloom_rejected";
+            return Optional.empty();
+        }
+        ApiKeyInfoDTO cached = active.get(digest);
+        if (cached != null) {
+            event.outcome = "cache_hit";
+            return Optional.of(cached);
+        }
+        if (rejected.peek(digest) != null) {
+            cachedRejections.increment();
+            event.outcome = "cache_rejected";
+            return Optional.empty();
+        }
+
+        lookups.increment();
+        Optional<ApiKeyInfoDTO> apiKey = apiKeyRepository.findActiveKeyInfo(key);
+        if (apiKey.isPresent()) {
+            active.put(digest, apiKey.get());
+            event.outcome = "db_found";
+        } else {
+            rejected.put(digest, Boolean.TRUE);
+            event.outcome = "db_rejected";
+        }
+        return apiKey;
+    }
+
+    /**
+     * En son kullanılan aktif key'leri cache'e yükle; sıralı olarak döner
+     */
+    public List<ApiKeyInfoDTO> preload(int limit) {
+        List<ApiKeyInfoDTO> loaded = new ArrayList<>();
+        for (Object[] row : apiKeyRepository.findRecentlyUsedActiveKeys(PageRequest.of(0, limit))) {
+            ApiKeyInfoDTO info = new ApiKeyInfoDTO((Long) row[1], (String) row[2], (Long) row[3], (String) row[4]);
+            active.put(Digests.sha256Hex((String) row[0]), info);
+            loaded.add(info);
+        }
+        return loaded;
+    }
+
+    public void touch(Long id) {
+        ApiKeyTouchEvent event = new ApiKeyTouchEvent();
+        event.begin();
+        apiKeyRepository.updateLastUsed(id, LocalDateTime.now());
+        event.apiKeyId = id;
+        event.commit();
+    }
+
+    public void evictProject(Long projectId) {
+        active.removeIf((digest, info) -> projectId.equals(info.getProjectId()));
+    }
+
+    public LruCache<String, ApiKeyInfoDTO> getCache() {
+        return active;
+    }
+
+    /**
+     * Yeni oluşturulan key'i filtreye ekle. Hemen ve commit sonrası tekrar eklenir; böylece
+     * commit'ten önce başlamış bir yeniden kurulum key'i kaçırsa bile yeni filtreye girer.
+     */
+    public void register(String key) {
+        String digest = Digests.sha256Hex(key);
+        addDigest(digest);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addDigest(digest);
+                }
+            });
+        }
+        invalidationBus.publish(InvalidationType.API_KEY, digest);
+    }
+
+    /**
+     * Aktif key'lerden filtreyi yeniden kur; pasifleşen key'lerin bitleri de böylece temizlenir
+     */
+    @Scheduled(fixedDelayString = "${app.api-key.bloom.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.api-key.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (filterLock) {
+            pendingDigests = new ArrayList<>();
+        }
+        try {
+            List<String> keys = apiKeyRepository.findActiveKeys();
+            BloomFilter fresh = new BloomFilter(Math.max(minCapacity, keys.size() * 2L), falsePositiveRate);
+            for (String key : keys) {
+                fresh.put(Digests.sha256Hex(key));
+            }
+            synchronized (filterLock) {
+                pendingDigests.forEach(fresh::put);
+                pendingDigests = null;
+                filter = fresh;
+            }
+            logger.info("API key Bloom filter {} aktif key ile kuruldu", keys.size());
+        } catch (RuntimeException e) {
+            synchronized (filterLock) {
+                pendingDigests = null;
+            }
+            // Filtre olmadan tüm istekler DB'ye düşer; eski filtre varsa kullanılmaya devam eder
+            logger.error("API key Bloom filter kurulamadı", e);
+        }
+    }
+
+    public long getFilterRejectionCount() {
+        return filterRejections.sum();
+    }
+
+    public long getCachedRejectionCount() {
+        return cachedRejections.sum();
+    }
+
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    private void addDigest(String digest) {
+        rejected.remove(digest);
+        boolean saturated;
+        synchronized (filterLock) {
+            if (filter != null) {
+                filter.put(digest);
+            }
+            if (pendingDigests != null) {
+                pendingDigests.add(digest);
+            }
+            saturated = filter != null && filter.isSaturated() && pendingDigests == null;
+        }
+        if (saturated) {
+            rebuild();
+        }
+    }
+}
@@ -1,22 +1,48 @@
 package com.configmanager.service;
 
+import com.configmanager.audit.AuditDictionary;
+import com.configmanager.audit.AuditEntry;
+import com.configmanager.audit.AuditExportFormat;
+import com.configmanager.audit.AuditLogWriter;
+import com.configmanager.audit.RecentActivityCache;
 import com.configmanager.dto.AuditLogDTO;
+import com.configmanager.dto.AuditLogFilterDTO;
 import com.configmanager.dto.AuditLogPageDTO;
+import com.configmanager.dto.CursorPageDTO;
+import com.configmanager.cache.LruCache;
 import com.configmanager.entity.AuditLog;
 import com.configmanager.entity.User;
+import com.configmanager.jfr.AuditExportEvent;
 import com.configmanager.repository.AuditLogRepository;
+import com.configmanager.util.CountingOutputStream;
+import com.configmanager.util.KeysetCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,59 +52,110 @@ public class AuditLogService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private RecentActivityCache recentActivityCache;
+
+    @Autowired
+    private AuditDictionary auditDictionary;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.audit.count-cache.size:10000}")
+    private int countCacheSize;
+
+    @Value("${app.audit.count-cache.ttl-ms:60000}")
+    private long countCacheTtlMillis;
+
+    // Kullanıcı başına toplam log sayısı; her sayfa isteğinde COUNT(*) çalıştırmamak için
+    private LruCache<Long, Long> userLogCounts;
+
+    @PostConstruct
+    void init() {
+        userLogCounts = new LruCache<>("audit-counts", countCacheSize, countCacheTtlMillis);
+    }
+
     /**
-     * Audit log kaydı oluştur
+     * Audit log kaydı oluştur. Request bilgileri burada alınır, DB'ye yazım arka planda batch ile yapılır.
      */
-    public AuditLog createLog(User user, String action, String resourceType, Long resourceId, String resourceName, String description) {
-        AuditLog log = new AuditLog();
-        log.setUser(user);
-        log.setUsername(user != null ? user.getUsername() : "anonymous");
-        log.setAction(action);
-        log.setResourceType(resourceType);
-        log.setResourceId(resourceId);
-        log.setResourceName(resourceName);
-        log.setDescription(description);
-        log.setStatus("SUCCESS");
-        
-        // Request bilgilerini al
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                log.setIpAddress(getClientIpAddress(request));
-                log.setUserAgent(request.getHeader("User-Agent"));
-            }
-        } catch (Exception e) {
-            // Request context yoksa devam et
-        }
-        
-        return auditLogRepository.save(log);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void createLog(User user, String action, String resourceType, Long resourceId, String resourceName, String description) {
+        Long projectId = "PROJECT".equals(resourceType) ? resourceId : null;
+        createLog(user, action, resourceType, resourceId, resourceName, description, projectId);
+    }
+
+    /**
+     * Proje kapsamındaki bir kaynak için audit log; projectId proje bazlı istatistiklerde kullanılır
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void createLog(User user, String action, String resourceType, Long resourceId, String resourceName, String description,
+            Long projectId) {
+        RequestMetadata metadata = captureRequestMetadata();
+        auditLogWriter.enqueue(new AuditEntry(
+            null,
+            user != null ? user.getId() : null,
+            user != null ? user.getUsername() : "anonymous",
+            action,
+            resourceType,
+            resourceId,
+            resourceName,
+            description,
+            metadata.ipAddress(),
+            metadata.userAgent(),
+            "SUCCESS",
+            null,
+            LocalDateTime.now(),
+            projectId
+        ));
     }
 
     /**
      * Başarısız işlem için audit log
      */
-    public AuditLog createFailureLog(User user, String action, String resourceType, String errorMessage) {
-        AuditLog log = new AuditLog();
-        log.setUser(user);
-        log.setUsername(user != null ? user.getUsername() : "anonymous");
-        log.setAction(action);
-        log.setResourceType(resourceType);
-        log.setStatus("FAILURE");
-        log.setErrorMessage(errorMessage);
-        
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void createFailureLog(User user, String action, String resourceType, String errorMessage) {
+        RequestMetadata metadata = captureRequestMetadata();
+        auditLogWriter.enqueue(new AuditEntry(
+            null,
+            user != null ? user.getId() : null,
+            user != null ? user.getUsername() : "anonymous",
+            action,
+            resourceType,
+            null,
+            null,
+            null,
+            metadata.ipAddress(),
+            metadata.userAgent(),
+            "FAILURE",
+            errorMessage,
+            LocalDateTime.now(),
+            null
+        ));
+    }
+
+    private record RequestMetadata(String ipAddress, String userAgent) {
+    }
+
+    /**
+     * Request bilgilerini al; request context yoksa boş
+     */
+    private RequestMetadata captureRequestMetadata() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (attributes != null) {
                 HttpServletRequest request = attributes.getRequest();
-                log.setIpAddress(getClientIpAddress(request));
-                log.setUserAgent(request.getHeader("User-Agent"));
+                return new RequestMetadata(getClientIpAddress(request), request.getHeader("User-Agent"));
             }
         } catch (Exception e) {
-            // Ignore
+            // Request context yoksa devam et
         }
-        
-        return auditLogRepository.save(log);
+        return new RequestMetadata(null, null);
     }
 
     /**
@@ -86,8 +163,8 @@ public class AuditLogService {
      */
     public AuditLogPageDTO getAllLogs(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<AuditLog> logPage = auditLogRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return convertToPageDTO(logPage);
+        Slice<AuditLog> logPage = auditLogRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return convertToPageDTO(logPage, -1);
     }
 
     /**
@@ -95,8 +172,9 @@ public class AuditLogService {
      */
     public AuditLogPageDTO getLogsByUser(User user, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<AuditLog> logPage = auditLogRepository.findByUserOrderByCreatedAtDesc(user, pageable);
-        return convertToPageDTO(logPage);
+        Slice<AuditLog> logPage = auditLogRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        long total = userLogCounts.get(user.getId(), id -> auditLogRepository.countByUser(user));
+        return convertToPageDTO(logPage, total);
     }
 
     /**
@@ -104,10 +182,10 @@ public class AuditLogService {
      */
     public AuditLogPageDTO getLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<AuditLog> logPage = auditLogRepository.findByCreatedAtBetweenOrderByCreatedAtDesc(
+        Slice<AuditLog> logPage = auditLogRepository.findByCreatedAtBetweenOrderByCreatedAtDesc(
             startDate, endDate, pageable
         );
-        return convertToPageDTO(logPage);
+        return convertToPageDTO(logPage, -1);
     }
     
     /**
@@ -115,10 +193,10 @@ public class AuditLogService {
      */
     public AuditLogPageDTO getLogsByDateRangeAndUser(User user, LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<AuditLog> logPage = auditLogRepository.findByUserAndCreatedAtBetweenOrderByCreatedAtDesc(
+        Slice<AuditLog> logPage = auditLogRepository.findByUserAndCreatedAtBetweenOrderByCreatedAtDesc(
             user, startDate, endDate, pageable
         );
-        return convertToPageDTO(logPage);
+        return convertToPageDTO(logPage, -1);
     }
 
     /**
@@ -133,19 +211,129 @@ public class AuditLogService {
         int page, 
         int size
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<AuditLog> logPage = auditLogRepository.findByFilters(
-            userId, action, resourceType, startDate, endDate, pageable
-        );
-        return convertToPageDTO(logPage);
+        AuditLogFilterDTO filter = AuditLogFilterDTO.builder()
+            .userId(userId)
+            .action(action)
+            .resourceType(resourceType)
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+        Slice<AuditLog> logPage = auditLogRepository.findSliceByFilter(filter, PageRequest.of(page, size));
+        return convertToPageDTO(logPage, -1);
     }
 
     /**
-     * Son 10 logu getir
+     * Son 10 logu getir; bellekteki buffer'dan, ilk erişimde DB'den
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AuditLogDTO> getRecentLogs(User user) {
-        List<AuditLog> logs = auditLogRepository.findTop10ByUserOrderByCreatedAtDesc(user);
-        return logs.stream().map(this::convertToDTO).collect(Collectors.toList());
+        return recentActivityCache.getRecent(user.getId(), id ->
+            auditLogRepository.findTop10ByUserOrderByCreatedAtDesc(user).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Kullanıcının logları, (createdAt, id) üzerinde keyset pagination ile; derinlikten bağımsız gecikme
+     */
+    public CursorPageDTO<AuditLogDTO> getLogsByUserCursor(User user, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AuditLog> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = auditLogRepository.findPageByUserId(user.getId(), limit);
+        } else {
+            String[] before = KeysetCursor.decode(cursor, 2);
+            rows = auditLogRepository.findPageByUserIdBefore(
+                user.getId(), LocalDateTime.parse(before[0]), Long.valueOf(before[1]), limit
+            );
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<AuditLog> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLog last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        List<AuditLogDTO> dtos = new ArrayList<>(content.size());
+        content.forEach(log -> dtos.add(convertToDTO(log)));
+        return new CursorPageDTO<>(dtos, nextCursor, hasNext);
+    }
+
+    private static final int EXPORT_FLUSH_ROWS = 1000;
+    private static final String CSV_HEADER =
+        "id,createdAt,username,action,resourceType,resourceId,resourceName,status,ipAddress,description,errorMessage";
+
+    /**
+     * Filtreye uyan tüm logları sabit bellekle out'a yazar. Sorgu ileri yönlü bir cursor olarak okunur;
+     * her satır yazıldıktan sonra persistence context'ten çıkarılır. Yazılan satır sayısını döndürür.
+     */
+    @Transactional(readOnly = true)
+    public long exportLogs(AuditLogFilterDTO filter, AuditExportFormat format, OutputStream out) throws IOException {
+        AuditExportEvent event = new AuditExportEvent();
+        event.begin();
+        CountingOutputStream counting = new CountingOutputStream(out);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(counting, StandardCharsets.UTF_8));
+        if (format == AuditExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<AuditLog> logs = auditLogRepository.streamByFilter(filter)) {
+            Iterator<AuditLog> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                AuditLog log = iterator.next();
+                AuditLogDTO dto = convertToDTO(log);
+                entityManager.detach(log);
+
+                if (format == AuditExportFormat.CSV) {
+                    writeCsvRow(writer, dto);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+                if (++count % EXPORT_FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        event.format = format.name();
+        event.rowCount = count;
+        event.bytes = counting.getCount();
+        event.commit();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, AuditLogDTO dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(dto.getCreatedAt() != null ? dto.getCreatedAt().toString() : "");
+        for (Object value : new Object[] { dto.getUsername(), dto.getAction(), dto.getResourceType(), dto.getResourceId(),
+                dto.getResourceName(), dto.getStatus(), dto.getIpAddress(), dto.getDescription(), dto.getErrorMessage() }) {
+            writer.write(',');
+            writer.write(csvField(value));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * CSV alanı; gerekirse tırnaklanır, formül olarak yorumlanabilecek değerler ' ile başlatılır
+     */
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
     }
 
     /**
@@ -160,7 +348,7 @@ public class AuditLogService {
             .resourceId(log.getResourceId())
             .resourceName(log.getResourceName())
             .description(log.getDescription())
-            .ipAddress(log.getIpAddress())
+            .ipAddress(log.getIpAddress() != null ? log.getIpAddress() : auditDictionary.ipAddress(log.getIpAddressId()))
             .status(log.getStatus())
             .errorMessage(log.getErrorMessage())
             .createdAt(log.getCreatedAt())
@@ -168,21 +356,26 @@ public class AuditLogService {
     }
 
     /**
-     * Page<AuditLog> -> AuditLogPageDTO
+     * Slice<AuditLog> -> AuditLogPageDTO. COUNT sorgusu çalıştırılmaz; total bilinmiyorsa -1
      */
-    private AuditLogPageDTO convertToPageDTO(Page<AuditLog> page) {
-        List<AuditLogDTO> content = page.getContent().stream()
+    private AuditLogPageDTO convertToPageDTO(Slice<AuditLog> slice, long totalElements) {
+        List<AuditLogDTO> content = slice.getContent().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
-        
+
+        int totalPages = totalElements >= 0 && slice.getSize() > 0
+            ? (int) Math.ceil((double) totalElements / slice.getSize())
+            : -1;
+
         return new AuditLogPageDTO(
             content,
-            page.getNumber(),
-            page.getSize(),
-            page.getTotalElements(),
-            page.getTotalPages(),
-            page.isLast(),
-            page.isFirst()
+            slice.getNumber(),
+            slice.getSize(),
+            totalElements,
+            totalPages,
+            slice.isLast(),
+            slice.isFirst(),
+            slice.hasNext()
         );
     }
 
@@ -0,0 +1,111 @@
+package com.configmanager.service;
+
+import com.configmanager.audit.AuditRollupAggregator;
+import com.configmanager.dto.AuditStatsDTO;
+import com.configmanager.dto.AuditStatsPointDTO;
+import com.configmanager.dto.AuditStatsTotalDTO;
+import com.configmanager.entity.RollupMetric;
+import com.configmanager.repository.AuditRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Dashboard istatistikleri; ham audit_logs yerine saatlik rollup'lardan hesaplanır
+ */
+@Service
+public class AuditStatsService {
+
+    @Autowired
+    private AuditRollupRepository auditRollupRepository;
+
+    @Autowired
+    private AuditRollupAggregator rollupAggregator;
+
+    private record Point(LocalDateTime bucketStart, String dimension) {
+    }
+
+    /**
+     * [startDate, endDate) aralığında metrik; granularity HOURS ya da DAYS.
+     * Toplamlar, top-N ve seri DB'de gruplanır; henüz tabloya yazılmamış sayaçlar sonradan eklenir.
+     */
+    @Transactional(readOnly = true)
+    public AuditStatsDTO getStats(RollupMetric metric, ChronoUnit granularity, LocalDateTime startDate, LocalDateTime endDate, int top) {
+        LocalDateTime start = startDate.truncatedTo(ChronoUnit.HOURS);
+
+        Map<Point, Long> pending = new HashMap<>();
+        rollupAggregator.pendingCounts(metric).forEach((key, count) -> {
+            if (!key.bucketStart().isBefore(start) && key.bucketStart().isBefore(endDate)) {
+                pending.merge(new Point(key.bucketStart().truncatedTo(granularity), key.dimension()), count, Long::sum);
+            }
+        });
+
+        // DB'deki top-N dışında kalan bir boyut ancak bekleyen sayaçlarla öne geçebilir;
+        // bu yüzden sadece bekleyen boyutların DB toplamları ayrıca okunur
+        Map<String, Long> totalsByDimension = new HashMap<>();
+        for (Object[] row : auditRollupRepository.findTopTotals(metric, start, endDate, PageRequest.of(0, top))) {
+            totalsByDimension.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        Set<String> pendingOnly = pending.keySet().stream()
+                .map(Point::dimension)
+                .filter(dimension -> !totalsByDimension.containsKey(dimension))
+                .collect(Collectors.toSet());
+        if (!pendingOnly.isEmpty()) {
+            for (Object[] row : auditRollupRepository.findTotals(metric, start, endDate, pendingOnly)) {
+                totalsByDimension.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        pending.forEach((point, count) -> totalsByDimension.merge(point.dimension(), count, Long::sum));
+
+        List<AuditStatsTotalDTO> totals = totalsByDimension.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(top)
+                .map(entry -> new AuditStatsTotalDTO(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        Set<String> topDimensions = totals.stream().map(AuditStatsTotalDTO::getDimension).collect(Collectors.toSet());
+
+        Map<Point, Long> points = new HashMap<>();
+        if (!topDimensions.isEmpty()) {
+            List<Object[]> rows = granularity == ChronoUnit.DAYS
+                    ? auditRollupRepository.findDailySeries(metric.name(), start, endDate, topDimensions)
+                    : auditRollupRepository.findHourlySeries(metric, start, endDate, topDimensions);
+            for (Object[] row : rows) {
+                points.merge(new Point(toLocalDateTime(row[0]), (String) row[1]), ((Number) row[2]).longValue(), Long::sum);
+            }
+        }
+        pending.forEach((point, count) -> {
+            if (topDimensions.contains(point.dimension())) {
+                points.merge(point, count, Long::sum);
+            }
+        });
+
+        List<AuditStatsPointDTO> series = points.entrySet().stream()
+                .map(entry -> new AuditStatsPointDTO(entry.getKey().bucketStart(), entry.getKey().dimension(), entry.getValue()))
+                .sorted(Comparator.comparing(AuditStatsPointDTO::getBucketStart).thenComparing(AuditStatsPointDTO::getDimension))
+                .collect(Collectors.toList());
+
+        return AuditStatsDTO.builder()
+                .metric(metric)
+                .granularity(granularity == ChronoUnit.DAYS ? "DAY" : "HOUR")
+                .startDate(start)
+                .endDate(endDate)
+                .totals(totals)
+                .series(series)
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,199 @@
+package com.configmanager.service;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.SingleFlight;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.repository.ConfigurationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Public API için (project, environment) başına değişmez key/value snapshot'ları.
+ * Cache'te olmayan bir kapsam için eşzamanlı istekler tek bir DB yüklemesini bekler (single-flight).
+ * Yüklemeler sınırlı bir havuzda çalışır; takılan bir sorgu istek thread'ini timeout'tan uzun tutmaz.
+ * Her kapsamın bir nesli vardır; yükleme sürerken commit edilen bir yazma nesli artırır,
+ * böylece eski veriyle biten yükleme cache'e yazılmaz ve sonraki istekler yeni bir yükleme başlatır.
+ * Nesil tablosu sınırlıdır: budanan kapsamlar taban nesle döner; taban her budamada o ana kadar verilen
+ * tüm nesillerden büyük bir değere çıkarıldığı için bir kapsamın nesli budama ile hiç eski değerine dönmez.
+ */
+@Service
+public class ConfigSnapshotService {
+
+    @Autowired
+    private ConfigurationRepository configurationRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    private final LruCache<String, Map<String, String>> snapshots;
+    private final ThreadPoolExecutor loadExecutor;
+    private final SingleFlight<String, Map<String, String>> loader;
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationCounter = new AtomicLong();
+    private final AtomicLong generationFloor = new AtomicLong(); // Tabloda olmayan kapsamların nesli
+    private final int maxGenerations;
+
+    public ConfigSnapshotService(@Value("${app.config.snapshot.cache-size:2000}") int cacheSize,
+            @Value("${app.config.snapshot.ttl-ms:300000}") long ttlMillis,
+            @Value("${app.config.snapshot.load-timeout-ms:5000}") long loadTimeoutMillis,
+            @Value("${app.config.snapshot.load-threads:8}") int loadThreads,
+            @Value("${app.config.snapshot.load-queue-size:100}") int loadQueueSize) {
+        this.snapshots = new LruCache<>("configSnapshots", cacheSize, ttlMillis);
+        this.maxGenerations = cacheSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.loadExecutor = new ThreadPoolExecutor(loadThreads, loadThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loadQueueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "snapshot-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.loader = new SingleFlight<>(loadTimeoutMillis, loadExecutor);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                switch (message.type()) {
+                    case CONFIG -> invalidate(message.key());
+                    case PROJECT -> invalidateProject(Long.valueOf(message.key()));
+                    default -> {
+                    }
+                }
+            }
+
+            @Override
+            public void onReset() {
+                invalidateAll();
+            }
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        loadExecutor.shutdownNow();
+    }
+
+    /**
+     * Kapsamın tüm key/value'ları. Yükleme timeout içinde bitmez ya da yükleme kuyruğu doluysa
+     * {@link SingleFlight.TimeoutExceededException} fırlatılır.
+     */
+    public Map<String, String> getSnapshot(Long projectId, String environment) {
+        String scope = KeyNamespaceService.indexKey(projectId, environment);
+        Map<String, String> snapshot = snapshots.get(scope);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long generation = generation(scope);
+        return loader.load(scope + "#" + generation, () -> {
+            Map<String, String> loaded = load(projectId, environment);
+            if (generation(scope) == generation) {
+                snapshots.put(scope, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Yazan node'da commit sonrası çağrılır; diğer node'lar bus üzerinden haberdar olur
+     */
+    public void evict(Long projectId, String environment) {
+        String scope = KeyNamespaceService.indexKey(projectId, environment);
+        afterCommit(() -> invalidate(scope));
+    }
+
+    public void evictProject(Long projectId) {
+        afterCommit(() -> invalidateProject(projectId));
+    }
+
+    public long getLoadCount() {
+        return loader.loadCount();
+    }
+
+    public long getCoalescedCount() {
+        return loader.coalescedCount();
+    }
+
+    public LruCache<String, Map<String, String>> getCache() {
+        return snapshots;
+    }
+
+    private Map<String, String> load(Long projectId, String environment) {
+        Map<String, String> values = new HashMap<>();
+        for (Object[] row : configurationRepository.findKeyValuesByProjectIdAndEnvironment(projectId, environment)) {
+            values.put((String) row[0], (String) row[1]);
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    private long generation(String scope) {
+        Long generation = generations.get(scope);
+        return generation != null ? generation : generationFloor.get();
+    }
+
+    private void invalidate(String scope) {
+        generations.put(scope, generationCounter.incrementAndGet());
+        snapshots.remove(scope);
+        if (generations.size() > maxGenerations) {
+            pruneGenerations(any -> true);
+        }
+    }
+
+    // Silinen projelerin kapsamları da tablodan böyle çıkar
+    private void invalidateProject(Long projectId) {
+        String prefix = projectId + ":";
+        pruneGenerations(scope -> scope.startsWith(prefix));
+        snapshots.removeIf((scope, snapshot) -> scope.startsWith(prefix));
+    }
+
+    private void invalidateAll() {
+        pruneGenerations(any -> true);
+        snapshots.clear();
+    }
+
+    /**
+     * Tabanı verilmiş tüm nesillerin üstüne çıkar, sonra seçilen kapsamları tablodan at. Sıra önemli:
+     * önce taban yükselir, böylece atılan kapsamın nesli hiçbir anda eski değerine düşmez.
+     * Tabanın yükselmesi tabloda olmayan kapsamların süren yüklemelerinin de cache'e yazılmamasına yol açar.
+     */
+    private void pruneGenerations(Predicate<String> selected) {
+        long floor = generationCounter.incrementAndGet();
+        generationFloor.accumulateAndGet(floor, Math::max);
+        // Budama sırasında artırılan kapsamlar (nesil > floor) tabloda kalır
+        generations.entrySet().removeIf(entry -> entry.getValue() <= floor && selected.test(entry.getKey()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
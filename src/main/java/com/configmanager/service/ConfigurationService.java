@@ -1,13 +1,22 @@
 package com.configmanager.service;
 
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.dto.ConfigDTO;
+import com.configmanager.dto.CursorPageDTO;
 import com.configmanager.entity.Configuration;
 import com.configmanager.entity.Project;
 import com.configmanager.entity.User;
 import com.configmanager.repository.ConfigurationRepository;
+import com.configmanager.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +29,15 @@ public class ConfigurationService {
     @Autowired
     private ConfigurationRepository configurationRepository;
 
+    @Autowired
+    private KeyNamespaceService keyNamespaceService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private ConfigSnapshotService configSnapshotService;
+
     public List<Configuration> getAllConfigurations() {
         return configurationRepository.findAll();
     }
@@ -33,11 +51,21 @@ public class ConfigurationService {
     }
 
     public Configuration saveConfiguration(Configuration configuration) {
-        return configurationRepository.save(configuration);
+        Configuration saved = configurationRepository.save(configuration);
+        keyNamespaceService.onConfigurationSaved(saved);
+        publishChange(saved);
+        return saved;
     }
 
     public List<Configuration> saveAll(List<Configuration> configs) {
-        return configurationRepository.saveAll(configs);
+        List<Configuration> saved = configurationRepository.saveAll(configs);
+        saved.forEach(keyNamespaceService::onConfigurationSaved);
+        saved.stream()
+                .map(config -> KeyNamespaceService.indexKey(config.getProject().getId(), config.getEnvironment()))
+                .distinct()
+                .forEach(scope -> invalidationBus.publish(InvalidationType.CONFIG, scope));
+        saved.forEach(config -> configSnapshotService.evict(config.getProject().getId(), config.getEnvironment()));
+        return saved;
     }
 
     public Configuration updateConfiguration(String key, String environment, Configuration updatedConfig) {
@@ -50,16 +78,33 @@ public class ConfigurationService {
             config.setIsSensitive(updatedConfig.getIsSensitive());
             config.setIsEncrypted(updatedConfig.getIsEncrypted());
             config.setUpdatedBy(updatedConfig.getUpdatedBy());
-            return configurationRepository.save(config);
+            Configuration saved = configurationRepository.save(config);
+            publishChange(saved);
+            return saved;
         } else {
             throw new RuntimeException("Configuration not found: " + key + " in " + environment);
         }
     }
 
     public void deleteConfiguration(Long id, String environment) {
+        configurationRepository.findById(id)
+                .filter(config -> config.getEnvironment().equals(environment))
+                .ifPresent(config -> {
+                    keyNamespaceService.onConfigurationDeleted(config);
+                    publishChange(config);
+                });
         configurationRepository.deleteByIdAndEnvironment(id, environment);
     }
 
+    /**
+     * (project, environment) kapsamının snapshot'ını düşür ve diğer node'lara bildir
+     */
+    private void publishChange(Configuration config) {
+        configSnapshotService.evict(config.getProject().getId(), config.getEnvironment());
+        invalidationBus.publish(InvalidationType.CONFIG,
+                KeyNamespaceService.indexKey(config.getProject().getId(), config.getEnvironment()));
+    }
+
     public List<String> getEnvironments() {
         return configurationRepository.findDistinctEnvironments();
     }
@@ -68,6 +113,106 @@ public class ConfigurationService {
         return configurationRepository.findByEnvironmentAndKeyContaining(environment, searchTerm);
     }
 
+    /**
+     * Kullanıcının config'leri, (environment, key, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConfigDTO> getConfigPageByUser(User user, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ConfigDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = configurationRepository.findConfigDTOPageByUserId(user.getId(), limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 3);
+            rows = configurationRepository.findConfigDTOPageByUserIdAfter(
+                    user.getId(), after[0], after[1], Long.valueOf(after[2]), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    /**
+     * Projenin config'leri, (environment, key, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConfigDTO> getConfigPageByProject(Project project, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ConfigDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = configurationRepository.findConfigDTOPageByProjectId(project.getId(), limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 3);
+            rows = configurationRepository.findConfigDTOPageByProjectIdAfter(
+                    project.getId(), after[0], after[1], Long.valueOf(after[2]), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    /**
+     * Kullanıcının projedeki tek environment'ı, (key, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConfigDTO> getConfigPageByEnvironmentAndUserAndProjectID(String environment, User user,
+            Long projectId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ConfigDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = configurationRepository.findConfigDTOPageByEnvironmentAndUserIdAndProjectId(
+                    environment, user.getId(), projectId, limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 3);
+            rows = configurationRepository.findConfigDTOPageByEnvironmentAndUserIdAndProjectIdAfter(
+                    environment, user.getId(), projectId, after[1], Long.valueOf(after[2]), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    /**
+     * Projenin tek environment'ı, (key, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConfigDTO> getConfigPageByProjectAndEnvironment(Project project, String environment,
+            String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ConfigDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = configurationRepository.findConfigDTOPageByProjectIdAndEnvironment(project.getId(), environment, limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 3);
+            rows = configurationRepository.findConfigDTOPageByProjectIdAndEnvironmentAfter(
+                    project.getId(), environment, after[1], Long.valueOf(after[2]), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    /**
+     * Key araması, (key, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ConfigDTO> searchConfigPage(String environment, String searchTerm, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ConfigDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = configurationRepository.searchConfigDTOPage(environment, searchTerm, limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 3);
+            rows = configurationRepository.searchConfigDTOPageAfter(
+                    environment, searchTerm, after[1], Long.valueOf(after[2]), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    // Cursor her listede (environment, key, id); tek environment'lı listelerde environment kullanılmaz
+    private CursorPageDTO<ConfigDTO> toCursorPage(List<ConfigDTO> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ConfigDTO> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ConfigDTO last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getEnvironment(), last.getKey(), last.getId());
+        }
+        return new CursorPageDTO<>(content, nextCursor, hasNext);
+    }
+
     public List<Configuration> getAllConfigurationsByUser(User user) {
         return configurationRepository.findByUser(user);
     }
@@ -125,6 +270,11 @@ public class ConfigurationService {
         return configurationRepository.findByProjectAndEnvironment(project, environment);
     }
 
+    public List<Configuration> getConfigurationsByProjectAndEnvironmentAndKeys(Project project, String environment,
+            Collection<String> keys) {
+        return configurationRepository.findByProjectAndEnvironmentAndKeyIn(project, environment, keys);
+    }
+
     public List<String> getEnvironmentsByProject(Project project) {
         return configurationRepository.findDistinctEnvironmentsByProject(project);
     }
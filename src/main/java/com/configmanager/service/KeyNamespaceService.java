@@ -0,0 +1,206 @@
+package com.configmanager.service;
+
+import com.configmanager.cache.LruCache;
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationListener;
+import com.configmanager.cache.invalidation.InvalidationMessage;
+import com.configmanager.dto.KeyNamespaceDTO;
+import com.configmanager.dto.KeyNamespaceNodeDTO;
+import com.configmanager.entity.Configuration;
+import com.configmanager.repository.ConfigurationRepository;
+import com.configmanager.util.RadixTrie;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Config key'lerinin hiyerarşik görünümü (service.component.setting).
+ * Her (project, environment) için boyutu ve ömrü sınırlı bir cache'te radix trie tutulur; ilk erişimde DB'den yüklenir,
+ * sonrasında yazma işlemleriyle commit sonrası artımlı olarak güncellenir.
+ * Yükleme kilit dışında yapılır; yükleme sürerken commit edilen bir yazma kapsamın neslini artırır
+ * ve eski veriyle biten yükleme cache'e yazılmaz. Hiç key'i olmayan environment'lar için trie cache'lenmez.
+ */
+@Service
+public class KeyNamespaceService {
+
+    public static final char SEPARATOR = '.';
+
+    @Autowired
+    private ConfigurationRepository configurationRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    private final LruCache<String, RadixTrie> tries;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public KeyNamespaceService(@Value("${app.key-namespace.cache-size:2000}") int cacheSize,
+            @Value("${app.key-namespace.ttl-ms:600000}") long ttlMillis) {
+        this.tries = new LruCache<>("keyNamespaces", cacheSize, ttlMillis);
+    }
+
+    /**
+     * Diğer node'lardaki yazmalar: ilgili trie atılır, bir sonraki erişimde yeniden yüklenir
+     */
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                switch (message.type()) {
+                    case CONFIG -> invalidate(message.key());
+                    case PROJECT -> invalidateProject(Long.valueOf(message.key()));
+                    default -> {
+                    }
+                }
+            }
+
+            @Override
+            public void onReset() {
+                evictAll();
+            }
+        });
+    }
+
+    /**
+     * Prefix altındaki tüm key'ler
+     */
+    public List<String> findKeys(Long projectId, String environment, String prefix) {
+        return trie(projectId, environment).keysWithPrefix(prefix != null ? prefix : "");
+    }
+
+    /**
+     * Prefix'in bir alt seviyesindeki segmentler ve key sayıları
+     */
+    public KeyNamespaceDTO getTree(Long projectId, String environment, String prefix) {
+        String normalized = normalizePrefix(prefix);
+        RadixTrie trie = trie(projectId, environment);
+
+        List<KeyNamespaceNodeDTO> children = trie.childSegments(normalized).stream()
+                .map(segment -> KeyNamespaceNodeDTO.builder()
+                        .segment(segment.name())
+                        .path(normalized + segment.name())
+                        .keyCount(segment.keyCount())
+                        .key(segment.key())
+                        .hasChildren(segment.keyCount() > (segment.key() ? 1 : 0))
+                        .build())
+                .collect(Collectors.toList());
+
+        return KeyNamespaceDTO.builder()
+                .projectId(projectId)
+                .environment(environment)
+                .prefix(normalized)
+                .keyCount(trie.countWithPrefix(normalized))
+                .children(children)
+                .build();
+    }
+
+    public void onConfigurationSaved(Configuration config) {
+        String scope = indexKey(config.getProject().getId(), config.getEnvironment());
+        String key = config.getKey();
+        afterCommit(() -> {
+            bumpGeneration(scope);
+            RadixTrie trie = tries.peek(scope);
+            if (trie != null) {
+                trie.add(key);
+            }
+        });
+    }
+
+    public void onConfigurationDeleted(Configuration config) {
+        String scope = indexKey(config.getProject().getId(), config.getEnvironment());
+        String key = config.getKey();
+        afterCommit(() -> {
+            bumpGeneration(scope);
+            RadixTrie trie = tries.peek(scope);
+            if (trie != null) {
+                trie.remove(key);
+            }
+        });
+    }
+
+    public void evict(Long projectId, String environment) {
+        invalidate(indexKey(projectId, environment));
+    }
+
+    public void evictProject(Long projectId) {
+        afterCommit(() -> invalidateProject(projectId));
+    }
+
+    public void evictAll() {
+        generations.replaceAll((scope, generation) -> generation + 1);
+        tries.clear();
+    }
+
+    public LruCache<String, RadixTrie> getCache() {
+        return tries;
+    }
+
+    private RadixTrie trie(Long projectId, String environment) {
+        String scope = indexKey(projectId, environment);
+        RadixTrie cached = tries.get(scope);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generations.getOrDefault(scope, 0L);
+        List<String> keys = configurationRepository.findKeysByProjectIdAndEnvironment(projectId, environment);
+        RadixTrie trie = new RadixTrie(SEPARATOR);
+        keys.forEach(trie::add);
+        // Var olmayan environment'lar (istemciden gelen keyfi değerler) cache'i doldurmasın
+        if (!keys.isEmpty() && generations.getOrDefault(scope, 0L) == generation) {
+            tries.put(scope, trie);
+        }
+        return trie;
+    }
+
+    private void invalidate(String scope) {
+        bumpGeneration(scope);
+        tries.remove(scope);
+    }
+
+    private void invalidateProject(Long projectId) {
+        String prefix = projectId + ":";
+        generations.replaceAll((scope, generation) -> scope.startsWith(prefix) ? generation + 1 : generation);
+        tries.removeIf((scope, trie) -> scope.startsWith(prefix));
+    }
+
+    private void bumpGeneration(String scope) {
+        generations.merge(scope, 1L, Long::sum);
+    }
+
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "";
+        }
+        return prefix.charAt(prefix.length() - 1) == SEPARATOR ? prefix : prefix + SEPARATOR;
+    }
+
+    /**
+     * Trie anahtarı; CONFIG invalidation mesajlarının key'i ile aynı formattadır
+     */
+    public static String indexKey(Long projectId, String environment) {
+        return projectId + ":" + environment;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
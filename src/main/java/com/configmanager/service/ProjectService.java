@@ -1,16 +1,29 @@
 package com.configmanager.service;
 
+import com.configmanager.cache.invalidation.InvalidationBus;
+import com.configmanager.cache.invalidation.InvalidationType;
+import com.configmanager.dto.CursorPageDTO;
+import com.configmanager.dto.ProjectDTO;
+import com.configmanager.dto.ProjectEnvironmentStatsDTO;
 import com.configmanager.entity.ApiKey;
 import com.configmanager.entity.Project;
 import com.configmanager.entity.User;
 import com.configmanager.repository.ApiKeyRepository;
+import com.configmanager.repository.ConfigurationRepository;
 import com.configmanager.repository.ProjectRepository;
+import com.configmanager.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -22,10 +35,75 @@ public class ProjectService {
     @Autowired
     private ApiKeyRepository apiKeyRepository;
 
+    @Autowired
+    private ConfigurationRepository configurationRepository;
+
+    @Autowired
+    private KeyNamespaceService keyNamespaceService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private ConfigSnapshotService configSnapshotService;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
     public List<Project> getProjectsByUser(User user) {
         return projectRepository.findByUser(user);
     }
 
+    /**
+     * Kullanıcının projeleri, API key'leriyle birlikte tek sorguda
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getProjectSummaries(User user) {
+        return projectRepository.findProjectSummariesByUserId(user.getId());
+    }
+
+    /**
+     * Sayfalı proje listesi; istenirse environment bazında config sayıları tek bir ek sorguyla eklenir
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectDTO> getProjectSummaries(User user, Pageable pageable, boolean includeStats) {
+        Page<ProjectDTO> page = projectRepository.findProjectSummariesByUserId(user.getId(), pageable);
+        if (includeStats && page.hasContent()) {
+            List<Long> projectIds = page.getContent().stream().map(ProjectDTO::getId).collect(Collectors.toList());
+            Map<Long, List<ProjectEnvironmentStatsDTO>> statsByProject = configurationRepository
+                    .findEnvironmentStatsByProjectIds(projectIds).stream()
+                    .collect(Collectors.groupingBy(ProjectEnvironmentStatsDTO::getProjectId));
+            page.getContent().forEach(project ->
+                    project.setEnvironments(statsByProject.getOrDefault(project.getId(), List.of())));
+        }
+        return page;
+    }
+
+    /**
+     * Kullanıcının projeleri, (name, id) üzerinde keyset pagination ile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProjectDTO> getProjectCursorPage(User user, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProjectDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = projectRepository.findProjectSummaryPageByUserId(user.getId(), limit);
+        } else {
+            String[] after = KeysetCursor.decode(cursor, 2);
+            rows = projectRepository.findProjectSummaryPageByUserIdAfter(
+                    user.getId(), after[0], Long.valueOf(after[1]), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ProjectDTO> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectDTO last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getName(), last.getId());
+        }
+        return new CursorPageDTO<>(content, nextCursor, hasNext);
+    }
+
     public Project getProjectByIdAndUser(Long id, User user) {
         return projectRepository.findByIdAndUser(id, user).orElse(null);
     }
@@ -37,6 +115,9 @@ public class ProjectService {
         // Proje kaydedildikten sonra otomatik olarak API key oluştur
         if (isNewProject) { // Yeni proje ise
             generateApiKeyForProject(savedProject);
+        } else {
+            apiKeyService.evictProject(savedProject.getId());
+            invalidationBus.publish(InvalidationType.PROJECT, savedProject.getId().toString());
         }
         
         return savedProject;
@@ -44,6 +125,10 @@ public class ProjectService {
 
     public void delete(Project project) {
         projectRepository.delete(project);
+        keyNamespaceService.evictProject(project.getId());
+        configSnapshotService.evictProject(project.getId());
+        apiKeyService.evictProject(project.getId());
+        invalidationBus.publish(InvalidationType.PROJECT, project.getId().toString());
     }
     
     private void generateApiKeyForProject(Project project) {
@@ -58,6 +143,7 @@ public class ProjectService {
         apiKey.setDescription("Auto-generated API key for project: " + project.getName());
         
         apiKeyRepository.save(apiKey);
+        apiKeyService.register(uniqueKey);
     }
     
     public ApiKey getApiKeyByProject(Project project) {
@@ -0,0 +1,104 @@
+package com.configmanager.service;
+
+import com.configmanager.dto.ProjectUsageDTO;
+import com.configmanager.dto.UsageCountsDTO;
+import com.configmanager.dto.UsagePointDTO;
+import com.configmanager.entity.ApiUsage;
+import com.configmanager.metrics.UsageMeter;
+import com.configmanager.repository.ApiUsageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Proje bazında public API kullanımı; saatlik api_usage satırları ve henüz yazılmamış sayaçlardan
+ */
+@Service
+public class UsageService {
+
+    @Autowired
+    private ApiUsageRepository apiUsageRepository;
+
+    @Autowired
+    private UsageMeter usageMeter;
+
+    private record Row(LocalDateTime bucketStart, String environment, Long apiKeyId, long[] values) {
+    }
+
+    /**
+     * [startDate, endDate) aralığı; granularity HOURS ya da DAYS.
+     * Henüz yazılmamış sayaçlar isteklerin geldiği saate eklenir.
+     */
+    @Transactional(readOnly = true)
+    public ProjectUsageDTO getUsage(Long projectId, ChronoUnit granularity, LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime start = startDate.truncatedTo(ChronoUnit.HOURS);
+        List<Row> rows = apiUsageRepository
+                .findByProjectIdAndBucketStartGreaterThanEqualAndBucketStartLessThan(projectId, start, endDate)
+                .stream()
+                .map(usage -> new Row(usage.getBucketStart(), usage.getEnvironment(), usage.getApiKeyId(), values(usage)))
+                .collect(Collectors.toList());
+
+        usageMeter.pending(projectId).forEach((key, values) -> {
+            if (!key.bucketStart().isBefore(start) && key.bucketStart().isBefore(endDate)) {
+                rows.add(new Row(key.bucketStart(), key.environment(), key.apiKeyId(), values));
+            }
+        });
+
+        Map<LocalDateTime, long[]> series = new TreeMap<>();
+        long[] total = new long[4];
+        for (Row row : rows) {
+            add(series.computeIfAbsent(row.bucketStart().truncatedTo(granularity), k -> new long[4]), row.values());
+            add(total, row.values());
+        }
+
+        return ProjectUsageDTO.builder()
+                .projectId(projectId)
+                .granularity(granularity == ChronoUnit.DAYS ? "DAY" : "HOUR")
+                .startDate(start)
+                .endDate(endDate)
+                .total(counts(null, total))
+                .environments(breakdown(rows, Row::environment))
+                .apiKeys(breakdown(rows, row -> row.apiKeyId().toString()))
+                .series(series.entrySet().stream()
+                        .map(entry -> new UsagePointDTO(entry.getKey(), entry.getValue()[0], entry.getValue()[1],
+                                entry.getValue()[2], entry.getValue()[3]))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static List<UsageCountsDTO> breakdown(List<Row> rows, Function<Row, String> dimension) {
+        Map<String, long[]> totals = new HashMap<>();
+        for (Row row : rows) {
+            add(totals.computeIfAbsent(dimension.apply(row), k -> new long[4]), row.values());
+        }
+        return totals.entrySet().stream()
+                .map(entry -> counts(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(UsageCountsDTO::getRequests).reversed()
+                        .thenComparing(UsageCountsDTO::getDimension))
+                .collect(Collectors.toList());
+    }
+
+    private static UsageCountsDTO counts(String dimension, long[] values) {
+        return new UsageCountsDTO(dimension, values[0], values[1], values[2], values[3]);
+    }
+
+    private static long[] values(ApiUsage usage) {
+        return new long[] { usage.getRequestCount(), usage.getByteCount(), usage.getNotModifiedCount(), usage.getErrorCount() };
+    }
+
+    private static void add(long[] target, long[] values) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += values[i];
+        }
+    }
+}
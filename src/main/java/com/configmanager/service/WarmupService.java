@@ -0,0 +1,211 @@
+package com.configmanager.service;
+
+import com.configmanager.controller.AuditLogController;
+import com.configmanager.controller.AuthController;
+import com.configmanager.controller.ConfigurationController;
+import com.configmanager.controller.ProjectController;
+import com.configmanager.controller.PublicApiController;
+import com.configmanager.dto.ApiKeyInfoDTO;
+import com.configmanager.repository.ConfigurationRepository;
+import com.configmanager.security.JwtTokenService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Uygulama hazır olduktan sonra lazy-initialization'ın ilk isteklere bıraktığı işleri önden yapar:
+ * sık kullanılan bean'ler oluşturulur, havuzun minimum bağlantıları açılır, son kullanılan API key'ler
+ * ve onların (project, environment) snapshot'ları paralel yüklenir.
+ * Node, ısınma bitene ya da süre sınırı dolana kadar /health üzerinde hazır görünmez.
+ */
+@Service
+@Lazy(false) // ApplicationReadyEvent'i alabilmesi için uygulama açılırken oluşturulmalı
+public class WarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupService.class);
+
+    private static final List<Class<?>> HOT_BEANS = List.of(
+            PublicApiController.class,
+            ConfigurationController.class,
+            ProjectController.class,
+            AuthController.class,
+            AuditLogController.class,
+            JwtTokenService.class,
+            ConfigurationService.class,
+            ProjectService.class,
+            AuditLogService.class,
+            KeyNamespaceService.class,
+            ConfigSnapshotService.class);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private ConfigSnapshotService configSnapshotService;
+
+    @Autowired
+    private ConfigurationRepository configurationRepository;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.deadline-ms:30000}")
+    private long deadlineMillis;
+
+    @Value("${app.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.warmup.api-key-limit:1000}")
+    private int apiKeyLimit;
+
+    @Value("${app.warmup.snapshot-limit:200}")
+    private int snapshotLimit;
+
+    private volatile boolean finished;
+    private volatile long deadlineAt = Long.MAX_VALUE;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        deadlineAt = System.currentTimeMillis() + deadlineMillis;
+        if (!enabled) {
+            finished = true;
+            return;
+        }
+        Thread thread = new Thread(this::run, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Isınma bittiyse ya da süre sınırı dolduysa hazır
+     */
+    public boolean isReady() {
+        return finished || System.currentTimeMillis() >= deadlineAt;
+    }
+
+    private void run() {
+        long started = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Void> beans = CompletableFuture.runAsync(this::initializeBeans, executor);
+            CompletableFuture<Void> pool = CompletableFuture.runAsync(this::openPoolConnections, executor);
+            CompletableFuture<Void> caches = CompletableFuture
+                    .supplyAsync(() -> apiKeyService.preload(apiKeyLimit), executor)
+                    .thenCompose(keys -> preloadSnapshots(keys, executor));
+
+            CompletableFuture.allOf(beans, pool, caches)
+                    .get(Math.max(0, deadlineAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            logger.info("Isınma {} ms içinde tamamlandı", System.currentTimeMillis() - started);
+        } catch (TimeoutException e) {
+            logger.warn("Isınma {} ms süre sınırında bitmedi, node yine de hazır işaretleniyor", deadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Isınma başarısız olsa da node hizmet verebilir; sadece ilk istekler yavaş olur
+            logger.warn("Isınma sırasında hata oluştu", e);
+        } finally {
+            finished = true;
+            executor.shutdownNow();
+        }
+    }
+
+    private void initializeBeans() {
+        for (Class<?> type : HOT_BEANS) {
+            applicationContext.getBean(type);
+        }
+    }
+
+    /**
+     * Havuzun minimum boyutu kadar bağlantıyı aynı anda açıp doğrula
+     */
+    private void openPoolConnections() {
+        int minimum = 1;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                minimum = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+            }
+        } catch (SQLException e) {
+            logger.debug("Havuz boyutu okunamadı", e);
+        }
+
+        List<Connection> connections = new ArrayList<>(minimum);
+        try {
+            for (int i = 0; i < minimum; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(5);
+            }
+        } catch (SQLException e) {
+            logger.warn("Havuz bağlantıları açılamadı", e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.debug("Bağlantı kapatılamadı", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Son kullanılan key'lerin projelerindeki ortamlar, key sırasına göre en fazla snapshot-limit kadar
+     */
+    private CompletableFuture<Void> preloadSnapshots(List<ApiKeyInfoDTO> keys, ExecutorService executor) {
+        Set<Long> projectIds = keys.stream()
+                .map(ApiKeyInfoDTO::getProjectId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (projectIds.isEmpty() || snapshotLimit <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<Long, List<String>> environments = configurationRepository.findDistinctEnvironmentsByProjectIds(projectIds)
+                .stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            for (String environment : environments.getOrDefault(projectId, List.of())) {
+                if (loads.size() >= snapshotLimit) {
+                    break;
+                }
+                loads.add(CompletableFuture.runAsync(
+                        () -> configSnapshotService.getSnapshot(projectId, environment), executor));
+            }
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+    }
+}
@@ -0,0 +1,27 @@
+package com.configmanager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Cache anahtarları ve mesajlar için hash yardımcıları
+ */
+public final class Digests {
+
+    private Digests() {
+    }
+
+    /**
+     * UTF-8 değerin SHA-256 özeti, küçük harf hex
+     */
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.configmanager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Keyset (seek) pagination için opak devam token'ı.
+ * Son satırın sıralama kolonları birleştirilip URL-safe Base64 ile kodlanır.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... values) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object value : values) {
+            joiner.add(String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'ı çöz; bozuk ya da beklenen kolon sayısında değilse IllegalArgumentException
+     */
+    public static String[] decode(String token, int expectedParts) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split(SEPARATOR, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Geçersiz cursor");
+        }
+        return parts;
+    }
+}
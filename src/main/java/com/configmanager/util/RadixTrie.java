@@ -0,0 +1,244 @@
+package com.configmanager.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Config key'leri için sıkıştırılmış (radix) prefix ağacı.
+ * Her düğüm alt ağacındaki key sayısını tutar; böylece prefix sayımı O(prefix uzunluğu) olur.
+ * Tüm public metodlar senkronizedir, tek bir (project, environment) için kullanılır.
+ */
+public class RadixTrie {
+
+    private final char separator;
+    private final Node root = new Node();
+
+    public RadixTrie(char separator) {
+        this.separator = separator;
+    }
+
+    private static final class Node {
+        // Kenar etiketi -> çocuk düğüm. Aynı düğümdeki etiketlerin ilk karakterleri farklıdır.
+        private final TreeMap<String, Node> children = new TreeMap<>();
+        private boolean terminal;
+        private int count;
+    }
+
+    private record Match(Node node, String path) {
+    }
+
+    /**
+     * Bir namespace segmentinin özeti (örn. "payments." altında "gateway")
+     */
+    public record Segment(String name, int keyCount, boolean key) {
+    }
+
+    public synchronized boolean add(String key) {
+        return insert(root, key);
+    }
+
+    public synchronized boolean remove(String key) {
+        return delete(root, key);
+    }
+
+    public synchronized boolean contains(String key) {
+        Match match = locate(key);
+        return match != null && match.path().equals(key) && match.node().terminal;
+    }
+
+    public synchronized int size() {
+        return root.count;
+    }
+
+    public synchronized int countWithPrefix(String prefix) {
+        Match match = locate(prefix);
+        return match != null ? match.node().count : 0;
+    }
+
+    /**
+     * Prefix ile başlayan tüm key'ler, alfabetik sırada
+     */
+    public synchronized List<String> keysWithPrefix(String prefix) {
+        List<String> keys = new ArrayList<>();
+        Match match = locate(prefix);
+        if (match != null) {
+            collectKeys(match.node(), new StringBuilder(match.path()), keys);
+        }
+        return keys;
+    }
+
+    /**
+     * Prefix'in hemen altındaki segmentler ve her birinin altındaki key sayısı.
+     * Prefix boş olmalı ya da ayraç ile bitmelidir.
+     */
+    public synchronized List<Segment> childSegments(String prefix) {
+        Map<String, int[]> counts = new TreeMap<>();
+        Map<String, Boolean> exactKeys = new TreeMap<>();
+        Match match = locate(prefix);
+        if (match != null) {
+            String extra = match.path().substring(prefix.length());
+            if (extra.isEmpty()) {
+                for (Map.Entry<String, Node> edge : match.node().children.entrySet()) {
+                    visitEdge("", edge.getKey(), edge.getValue(), counts, exactKeys);
+                }
+            } else {
+                visitEdge("", extra, match.node(), counts, exactKeys);
+            }
+        }
+
+        List<Segment> segments = new ArrayList<>(counts.size());
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            segments.add(new Segment(entry.getKey(), entry.getValue()[0],
+                    exactKeys.getOrDefault(entry.getKey(), false)));
+        }
+        return segments;
+    }
+
+    private void visitEdge(String acc, String label, Node child, Map<String, int[]> counts,
+            Map<String, Boolean> exactKeys) {
+        int dot = label.indexOf(separator);
+        if (dot >= 0) {
+            // Segment bu kenarda bitiyor, alt ağacın tamamı aynı segmente ait
+            counts.computeIfAbsent(acc + label.substring(0, dot), k -> new int[1])[0] += child.count;
+            return;
+        }
+        String segment = acc + label;
+        if (child.terminal) {
+            counts.computeIfAbsent(segment, k -> new int[1])[0]++;
+            exactKeys.put(segment, true);
+        }
+        for (Map.Entry<String, Node> edge : child.children.entrySet()) {
+            visitEdge(segment, edge.getKey(), edge.getValue(), counts, exactKeys);
+        }
+    }
+
+    private boolean insert(Node node, String rest) {
+        if (rest.isEmpty()) {
+            if (node.terminal) {
+                return false;
+            }
+            node.terminal = true;
+            node.count++;
+            return true;
+        }
+
+        Map.Entry<String, Node> edge = edgeFor(node, rest.charAt(0));
+        if (edge == null) {
+            Node leaf = new Node();
+            leaf.terminal = true;
+            leaf.count = 1;
+            node.children.put(rest, leaf);
+            node.count++;
+            return true;
+        }
+
+        String label = edge.getKey();
+        Node child = edge.getValue();
+        int common = commonPrefixLength(label, rest);
+        if (common < label.length()) {
+            // Kenarı ortak prefix noktasından böl
+            Node middle = new Node();
+            middle.count = child.count;
+            node.children.remove(label);
+            middle.children.put(label.substring(common), child);
+            node.children.put(label.substring(0, common), middle);
+            child = middle;
+        }
+
+        boolean added = insert(child, rest.substring(common));
+        if (added) {
+            node.count++;
+        }
+        return added;
+    }
+
+    private boolean delete(Node node, String rest) {
+        if (rest.isEmpty()) {
+            if (!node.terminal) {
+                return false;
+            }
+            node.terminal = false;
+            node.count--;
+            return true;
+        }
+
+        Map.Entry<String, Node> edge = edgeFor(node, rest.charAt(0));
+        if (edge == null || !rest.startsWith(edge.getKey())) {
+            return false;
+        }
+
+        String label = edge.getKey();
+        Node child = edge.getValue();
+        if (!delete(child, rest.substring(label.length()))) {
+            return false;
+        }
+        node.count--;
+
+        if (child.count == 0) {
+            node.children.remove(label);
+        } else if (!child.terminal && child.children.size() == 1) {
+            // Tek çocuklu ara düğümü üst kenarla birleştir
+            Map.Entry<String, Node> only = child.children.firstEntry();
+            node.children.remove(label);
+            node.children.put(label + only.getKey(), only.getValue());
+        }
+        return true;
+    }
+
+    private Match locate(String prefix) {
+        Node node = root;
+        StringBuilder path = new StringBuilder();
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Map.Entry<String, Node> edge = edgeFor(node, rest.charAt(0));
+            if (edge == null) {
+                return null;
+            }
+            String label = edge.getKey();
+            if (rest.length() <= label.length()) {
+                if (!label.startsWith(rest)) {
+                    return null;
+                }
+                return new Match(edge.getValue(), path.append(label).toString());
+            }
+            if (!rest.startsWith(label)) {
+                return null;
+            }
+            node = edge.getValue();
+            path.append(label);
+            rest = rest.substring(label.length());
+        }
+        return new Match(node, path.toString());
+    }
+
+    private void collectKeys(Node node, StringBuilder path, List<String> keys) {
+        if (node.terminal) {
+            keys.add(path.toString());
+        }
+        for (Map.Entry<String, Node> edge : node.children.entrySet()) {
+            int length = path.length();
+            path.append(edge.getKey());
+            collectKeys(edge.getValue(), path, keys);
+            path.setLength(length);
+        }
+    }
+
+    private static Map.Entry<String, Node> edgeFor(Node node, char first) {
+        Map.Entry<String, Node> candidate = node.children.ceilingEntry(String.valueOf(first));
+        if (candidate != null && candidate.getKey().charAt(0) == first) {
+            return candidate;
+        }
+        return null;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
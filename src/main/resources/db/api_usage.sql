@@ -0,0 +1,23 @@
+-- Saatlik public API kullanım sayaçları (UsageMeter) için tablo (PostgreSQL 10+).
+-- UsageMeter flush'ı unique constraint üzerinden INSERT ... ON CONFLICT DO UPDATE yapar;
+-- constraint olmadan eşzamanlı flush'lar aynı bucket için çift satır üretebilir.
+-- Tek seferlik çalıştırılır: psql -f api_usage.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS api_usage (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    bucket_start       TIMESTAMP(6) NOT NULL,
+    project_id         BIGINT       NOT NULL,
+    environment        VARCHAR(255) NOT NULL,
+    api_key_id         BIGINT       NOT NULL,
+    request_count      BIGINT       NOT NULL,
+    byte_count         BIGINT       NOT NULL,
+    not_modified_count BIGINT       NOT NULL,
+    error_count        BIGINT       NOT NULL,
+    CONSTRAINT uk_api_usage_bucket_scope UNIQUE (bucket_start, project_id, environment, api_key_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_api_usage_project_bucket ON api_usage (project_id, bucket_start);
+
+COMMIT;
@@ -0,0 +1,43 @@
+-- audit_logs.user_agent / ip_address için sözlük tabloları (PostgreSQL 11+).
+-- Yeni kayıtlar sadece ip_address_id / user_agent_id taşır; eski metin kolonları geçmiş kayıtlar için kalır.
+-- Tek seferlik çalıştırılır: psql -f audit_logs_dictionary.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS audit_user_agents (
+    id    BIGSERIAL PRIMARY KEY,
+    hash  VARCHAR(64) NOT NULL,
+    value TEXT        NOT NULL,
+    CONSTRAINT uk_audit_user_agent_hash UNIQUE (hash)
+);
+
+CREATE TABLE IF NOT EXISTS audit_ip_addresses (
+    id    BIGSERIAL PRIMARY KEY,
+    value VARCHAR(64) NOT NULL,
+    CONSTRAINT uk_audit_ip_address_value UNIQUE (value)
+);
+
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS ip_address_id BIGINT;
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS user_agent_id BIGINT;
+
+COMMIT;
+
+-- Opsiyonel: mevcut kayıtları sözlüğe taşı. Büyük tablolarda bakım penceresinde çalıştırılmalı,
+-- sonrasında alanın geri kazanılması için VACUUM FULL audit_logs (ya da pg_repack) gerekir.
+--
+-- INSERT INTO audit_user_agents (hash, value)
+-- SELECT DISTINCT encode(sha256(convert_to(user_agent, 'UTF8')), 'hex'), user_agent
+-- FROM audit_logs WHERE user_agent IS NOT NULL
+-- ON CONFLICT (hash) DO NOTHING;
+--
+-- INSERT INTO audit_ip_addresses (value)
+-- SELECT DISTINCT left(ip_address, 64) FROM audit_logs WHERE ip_address IS NOT NULL
+-- ON CONFLICT (value) DO NOTHING;
+--
+-- UPDATE audit_logs a SET user_agent_id = ua.id, user_agent = NULL
+-- FROM audit_user_agents ua
+-- WHERE a.user_agent IS NOT NULL AND ua.hash = encode(sha256(convert_to(a.user_agent, 'UTF8')), 'hex');
+--
+-- UPDATE audit_logs a SET ip_address_id = ip.id, ip_address = NULL
+-- FROM audit_ip_addresses ip
+-- WHERE a.ip_address IS NOT NULL AND ip.value = left(a.ip_address, 64);
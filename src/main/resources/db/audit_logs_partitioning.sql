@@ -0,0 +1,60 @@
+-- audit_logs tablosunu created_at üzerinden RANGE bölümlenmiş tabloya çevirir (PostgreSQL 12+).
+-- Mevcut tablo veri kopyalanmadan ilk partition olarak eklenir; sonraki partition'ları
+-- AuditPartitionManager açar ve saklama süresi dolunca arşivleyip DETACH + DROP eder.
+-- Uygulanmazsa saklama süresi periyot başına bir DELETE ile yürütülür.
+-- Tek seferlik çalıştırılır, audit_logs_dictionary.sql'den sonra: psql -f audit_logs_partitioning.sql
+
+BEGIN;
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER TABLE audit_logs_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE audit_logs_legacy ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE audit_logs_partitioned_id_seq;
+SELECT setval('audit_logs_partitioned_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM audit_logs_legacy), false);
+
+CREATE TABLE audit_logs (
+    id            BIGINT       NOT NULL DEFAULT nextval('audit_logs_partitioned_id_seq'),
+    user_id       BIGINT       REFERENCES users (id),
+    username      VARCHAR(255),
+    action        VARCHAR(255) NOT NULL,
+    resource_type VARCHAR(255),
+    resource_id   BIGINT,
+    resource_name VARCHAR(255),
+    description   TEXT,
+    ip_address    VARCHAR(255),
+    user_agent    TEXT,
+    ip_address_id BIGINT,
+    user_agent_id BIGINT,
+    status        VARCHAR(255),
+    error_message TEXT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_partitioned_id_seq OWNED BY audit_logs.id;
+
+CREATE INDEX idx_audit_logs_created_at ON audit_logs (created_at);
+CREATE INDEX idx_audit_logs_action ON audit_logs (action);
+CREATE INDEX idx_audit_logs_user_created_at_id ON audit_logs (user_id, created_at, id);
+CREATE INDEX idx_audit_logs_user_action_created_at ON audit_logs (user_id, action, created_at);
+CREATE INDEX idx_audit_logs_user_resource_type_created_at ON audit_logs (user_id, resource_type, created_at);
+
+-- Eski kayıtlar tek partition olur. Tablo bu ay da yazıldığı için üst sınır ayın başı olamaz:
+-- ATTACH her satırı sınıra karşı kontrol eder. Sınır, gelecek ayın başı ile en yeni kaydın
+-- ayının sonundan büyük olanıdır; yeni partition'lar bu sınırdan başlar, aralıklar çakışmaz.
+DO $$
+DECLARE
+    legacy_end TIMESTAMP := GREATEST(
+        date_trunc('month', now()) + interval '1 month',
+        COALESCE(date_trunc('month', (SELECT MAX(created_at) FROM audit_logs_legacy)) + interval '1 month', '-infinity'));
+BEGIN
+    EXECUTE format('ALTER TABLE audit_logs ATTACH PARTITION audit_logs_legacy FOR VALUES FROM (MINVALUE) TO (%L)', legacy_end);
+    EXECUTE format('CREATE TABLE audit_logs_p%s PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                   to_char(legacy_end, 'YYYYMMDD'), legacy_end, legacy_end + interval '1 month');
+END $$;
+
+-- Önceden açılmamış bir aralığa düşen kayıtlar reddedilmesin diye
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+COMMIT;
@@ -0,0 +1,19 @@
+-- Saatlik audit sayaçları (AuditRollupAggregator) ve /api/audit-logs/stats için tablo (PostgreSQL 10+).
+-- Tek seferlik çalıştırılır: psql -f audit_rollups.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS audit_rollups (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    metric       VARCHAR(32)  NOT NULL,
+    bucket_start TIMESTAMP(6) NOT NULL,
+    dimension    VARCHAR(255) NOT NULL,
+    event_count  BIGINT       NOT NULL,
+    CONSTRAINT uk_rollup_metric_bucket_dimension UNIQUE (metric, bucket_start, dimension)
+);
+
+-- Unique constraint'in indeksi (metric, bucket_start) aralık taramalarını da karşılar;
+-- entity'deki idx_rollup_metric_bucket ile aynı isimle tutulur
+CREATE INDEX IF NOT EXISTS idx_rollup_metric_bucket ON audit_rollups (metric, bucket_start);
+
+COMMIT;
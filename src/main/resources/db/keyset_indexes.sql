@@ -0,0 +1,33 @@
+-- Keyset pagination indeksleri (PostgreSQL 11+). Entity'lerdeki @Index tanımları ddl-auto=none ile oluşturulmaz.
+-- CONCURRENTLY transaction içinde çalışamaz; dosya BEGIN/COMMIT olmadan, psql 10+ ile çalıştırılır: psql -f keyset_indexes.sql
+
+-- /api/config/page: (user_id) altında (environment, key_name, id) sırasıyla seek
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_config_user_env_key_id
+    ON configurations (user_id, environment, key_name, id);
+
+-- /api/projects/{id}/configs/page
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_config_project_env_key_id
+    ON configurations (project_id, environment, key_name, id);
+
+-- /api/projects/cursor: (user_id) altında (name, id) sırasıyla seek
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_user_name_id
+    ON projects (user_id, name, id);
+
+-- /api/audit-logs: sadece bölümlenmemiş audit_logs için. CONCURRENTLY bölümlenmiş tabloda çalışmaz;
+-- audit_logs_partitioning.sql uygulanmışsa aynı indeksler (idx_audit_logs_*) partition'lı tabloda zaten vardır.
+-- Bu dosya audit_logs_partitioning.sql'den önce çalıştırılırsa indeksler eski partition'a taşınır, yeniden kurulmaz.
+SELECT EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('audit_logs') AND relkind = 'r') AS audit_logs_plain \gset
+\if :audit_logs_plain
+
+-- /api/audit-logs/cursor: (user_id) altında (created_at, id) sırasıyla seek
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_created_at_id
+    ON audit_logs (user_id, created_at, id);
+
+-- /api/audit-logs: kullanıcı + action / resource_type filtreleri, created_at aralığı ve sıralaması
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_action_created_at
+    ON audit_logs (user_id, action, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_resource_type_created_at
+    ON audit_logs (user_id, resource_type, created_at);
+
+\endif
@@ -0,0 +1,129 @@
+package com.configmanager.repository;
+
+import com.configmanager.dto.AuditLogFilterDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Audit filtre sorgusunun WHERE kısmında sadece verilen filtrelerin bulunduğunu doğrular
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.configmanager.repository.AuditLogRepositoryQueryShapeTest$SqlCapture"
+})
+class AuditLogRepositoryQueryShapeTest {
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @BeforeEach
+    void clearStatements() {
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void noFilterHasNoWhereClause() {
+        String sql = runFilter(new AuditLogFilterDTO());
+
+        assertThat(sql).doesNotContain(" where ");
+    }
+
+    @Test
+    void userAndActionOnly() {
+        String where = whereClause(runFilter(AuditLogFilterDTO.builder().userId(1L).action("LOGIN").build()));
+
+        assertThat(where).contains("user_id=?").contains("action=?");
+        assertThat(where).doesNotContain("resource_type").doesNotContain("created_at").doesNotContain("is null");
+        assertThat(parameterCount(where)).isEqualTo(2);
+    }
+
+    @Test
+    void userAndResourceTypeOnly() {
+        String where = whereClause(runFilter(AuditLogFilterDTO.builder().userId(1L).resourceType("PROJECT").build()));
+
+        assertThat(where).contains("user_id=?").contains("resource_type=?");
+        assertThat(where).doesNotContain("action").doesNotContain("created_at").doesNotContain("is null");
+        assertThat(parameterCount(where)).isEqualTo(2);
+    }
+
+    @Test
+    void dateRangeOnly() {
+        LocalDateTime end = LocalDateTime.now();
+        String where = whereClause(runFilter(AuditLogFilterDTO.builder()
+                .startDate(end.minusDays(1))
+                .endDate(end)
+                .build()));
+
+        assertThat(where).contains("created_at>=?").contains("created_at<=?");
+        assertThat(where).doesNotContain("user_id").doesNotContain("action").doesNotContain("resource_type")
+                .doesNotContain("is null");
+        assertThat(parameterCount(where)).isEqualTo(2);
+    }
+
+    @Test
+    void allFilters() {
+        LocalDateTime end = LocalDateTime.now();
+        String where = whereClause(runFilter(new AuditLogFilterDTO(1L, "LOGIN", "USER", end.minusDays(1), end)));
+
+        assertThat(where).doesNotContain("is null");
+        assertThat(parameterCount(where)).isEqualTo(5);
+    }
+
+    @Test
+    void exportStreamUsesSameShape() {
+        try (var rows = auditLogRepository.streamByFilter(AuditLogFilterDTO.builder().action("LOGIN").build())) {
+            assertThat(rows).isEmpty();
+        }
+        String where = whereClause(auditLogSelect());
+
+        assertThat(where).contains("action=?").doesNotContain("user_id").doesNotContain("is null");
+        assertThat(parameterCount(where)).isEqualTo(1);
+    }
+
+    private String runFilter(AuditLogFilterDTO filter) {
+        auditLogRepository.findSliceByFilter(filter, PageRequest.of(0, 20));
+        return auditLogSelect();
+    }
+
+    private static String auditLogSelect() {
+        return SqlCapture.STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("select") && sql.contains("from audit_logs"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("audit_logs sorgusu çalışmadı: " + SqlCapture.STATEMENTS));
+    }
+
+    private static String whereClause(String sql) {
+        int where = sql.indexOf(" where ");
+        assertThat(where).as("WHERE bekleniyordu: %s", sql).isGreaterThanOrEqualTo(0);
+        int orderBy = sql.indexOf(" order by ", where);
+        return orderBy > 0 ? sql.substring(where, orderBy) : sql.substring(where);
+    }
+
+    private static long parameterCount(String where) {
+        return where.chars().filter(c -> c == '?').count();
+    }
+}